@@ -18,6 +18,7 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -233,6 +234,33 @@ public final class Hibernate {
 				: list.get(key);
 	}
 
+	/**
+	 * Obtain a {@linkplain Collection#stream() stream} of the elements of the given
+	 * persistent collection. If the collection is not yet initialized, the elements
+	 * are read from the database as the stream is consumed, and the collection itself
+	 * is left uninitialized, so that very large collections never need to be held in
+	 * memory at once. Entity elements still become managed by the session, and may be
+	 * {@linkplain Session#detach(Object) detached} once they were processed.
+	 * <p>
+	 * The elements of an uninitialized list or array are streamed in the order of
+	 * their index, but the {@linkplain jakarta.persistence.OrderBy ordering} of a
+	 * bag, set, or map is not applied, and its elements are streamed in no
+	 * particular order.
+	 * <p>
+	 * The stream must be {@linkplain Stream#close() closed}.
+	 *
+	 * @param collection a persistent collection associated with an open session
+	 * @return a stream of the elements of the collection
+	 *
+	 * @since 6.3
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Stream<T> stream(Collection<T> collection) {
+		return collection instanceof PersistentCollection && !((PersistentCollection<?>) collection).wasInitialized()
+				? (Stream<T>) ((PersistentCollection<?>) collection).streamElements()
+				: collection.stream();
+	}
+
 	/**
 	 * Remove the value associated with the given key by the given persistent
 	 * map, without fetching the state of the map from the database.
@@ -106,6 +106,23 @@ public interface SessionBuilder {
 	 */
 	SessionBuilder flushMode(FlushMode flushMode);
 
+	/**
+	 * Should the opened Session be read-only? Entities loaded by a read-only session
+	 * are {@linkplain Session#setDefaultReadOnly read-only} by default, and so keep no
+	 * snapshot of their loaded state. Unless a {@linkplain #flushMode FlushMode} is
+	 * specified, a read-only session is never flushed automatically, which avoids the
+	 * flush-time dirty check of all the entities it holds.
+	 *
+	 * @param readOnly Should the opened Session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see Session#setDefaultReadOnly
+	 *
+	 * @since 6.3
+	 */
+	SessionBuilder readOnly(boolean readOnly);
+
 	/**
 	 * Define the tenant identifier to be associated with the opened session.
 	 *
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.action.internal;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.UpdateCoordinator;
+
+/**
+ * The action for writing an entity which might, or might not, already exist in the
+ * database, using a single {@linkplain EntityPersister#getMergeCoordinator upsert} per table.
+ * <p>
+ * Since it is not known whether the entity is inserted or updated, no insert or
+ * update events are fired.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+ */
+public class EntityUpsertAction extends EntityInsertAction {
+
+	private final Object expectedVersion;
+
+	/**
+	 * Constructs an EntityUpsertAction.
+	 *
+	 * @param id The entity identifier
+	 * @param state The current (extracted) entity state
+	 * @param instance The entity instance
+	 * @param version The version value to be written
+	 * @param expectedVersion The version value the entity is expected to have in the
+	 * database, if it already exists there
+	 * @param persister The entity's persister
+	 * @param isVersionIncrementDisabled Whether version incrementing is disabled.
+	 * @param session The session
+	 */
+	public EntityUpsertAction(
+			final Object id,
+			final Object[] state,
+			final Object instance,
+			final Object version,
+			final Object expectedVersion,
+			final EntityPersister persister,
+			final boolean isVersionIncrementDisabled,
+			final EventSource session) {
+		super( id, state, instance, version, persister, isVersionIncrementDisabled, session );
+		this.expectedVersion = expectedVersion;
+	}
+
+	public Object getExpectedVersion() {
+		return expectedVersion;
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		nullifyTransientReferencesIfNotAlready();
+
+		final SharedSessionContractImplementor session = getSession();
+		final EntityPersister persister = getPersister();
+		final Object instance = getInstance();
+		final UpdateCoordinator mergeCoordinator = persister.getMergeCoordinator();
+		if ( mergeCoordinator == null ) {
+			throw new AssertionFailure( "Upsert scheduled for entity which does not support upserts: " + persister.getEntityName() );
+		}
+		mergeCoordinator.coordinateUpdate(
+				instance,
+				getId(),
+				null,
+				getState(),
+				expectedVersion,
+				null,
+				null,
+				false,
+				session
+		);
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.getEntry( instance );
+		if ( entry == null ) {
+			throw new AssertionFailure( "possible non-threadsafe access to session" );
+		}
+		entry.postInsert( getState() );
+		addCollectionsByKeyToPersistenceContext( persistenceContext, getState() );
+		handleNaturalIdPostSaveNotifications( getId() );
+
+		markExecuted();
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+		// upserted entities are never cached, and no events are fired
+	}
+
+	@Override
+	protected boolean hasPostCommitEventListeners() {
+		return false;
+	}
+}
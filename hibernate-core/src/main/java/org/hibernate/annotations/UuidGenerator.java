@@ -18,7 +18,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * Specifies that an entity identifier is generated as an RFC 4122 UUID.
  * <p>
- * The type of the identifier attribute may be {@link UUID} or {@link String}.
+ * The type of the identifier attribute may be {@link UUID}, {@link String},
+ * or {@code byte[]}.
  *
  * @author Steve Ebersole
  *
@@ -46,7 +47,18 @@ public @interface UuidGenerator {
 		 * @implNote Can be a bottleneck due to the need to synchronize in order
 		 *           to increment an internal count as part of the algorithm.
 		 */
-		TIME
+		TIME,
+		/**
+		 * Applies a time-ordered generation strategy consistent with IETF RFC 9562,
+		 * that is, generates version 7 UUIDs. Values generated within a JVM are
+		 * strictly increasing, which keeps inserts into an index on the column
+		 * localized.
+		 *
+		 * @see org.hibernate.id.uuid.UuidVersion7Strategy
+		 *
+		 * @since 6.3
+		 */
+		VERSION_7
 	}
 
 	/**
@@ -150,6 +150,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+	 */
+	default boolean isMergeDetachedUsingUpsertEnabled() {
+		return false;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -158,6 +165,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default int getNamedQueryStartupCheckingParallelism() {
+		return 1;
+	}
+
 	boolean isSecondLevelCacheEnabled();
 
 	boolean isQueryCacheEnabled();
@@ -192,6 +206,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	boolean isCommentsEnabled();
 
 
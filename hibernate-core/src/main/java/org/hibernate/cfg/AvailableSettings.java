@@ -1064,6 +1064,21 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of query statements kept open on a physical JDBC connection
+	 * after they are released, so that a query executed again on that connection is
+	 * not prepared again. The statements are closed before the connection is released,
+	 * so this is most useful when a session executes the same queries repeatedly, or
+	 * when the connection pool or driver does not cache statements.
+	 * <p>
+	 * Hits are exposed via {@link org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()}.
+	 * <p>
+	 * The default is {@code 0}, that is, no statements are cached.
+	 *
+	 * @since 6.3
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -1085,6 +1100,97 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, the size of each JDBC batch is tuned per
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey batch key},
+	 * based on the observed execution time and the estimated number of bytes
+	 * bound to the batched statements. The {@linkplain #STATEMENT_BATCH_SIZE
+	 * configured batch size} is used as the initial size, and adaptive batching
+	 * has no effect unless batching is enabled.
+	 * <p>
+	 * A batch size explicitly specified for a session via
+	 * {@link org.hibernate.SharedSessionContract#setJdbcBatchSize(Integer)} always takes
+	 * precedence over the adaptive size.
+	 * <p>
+	 * The chosen sizes are exposed via
+	 * {@link org.hibernate.stat.Statistics#getAdaptiveJdbcBatchSizes()}.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see #ADAPTIVE_BATCH_SIZE_MIN
+	 * @see #ADAPTIVE_BATCH_SIZE_MAX
+	 * @see #ADAPTIVE_BATCH_TARGET_TIME
+	 * @see #ADAPTIVE_BATCH_MAX_BYTES
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_SIZE = "hibernate.jdbc.adaptive_batch_size";
+
+	/**
+	 * The smallest batch size which may be chosen when {@linkplain #ADAPTIVE_BATCH_SIZE
+	 * adaptive batching} is enabled.
+	 * <p>
+	 * The default is {@code 2}.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_SIZE_MIN = "hibernate.jdbc.adaptive_batch_size.min";
+
+	/**
+	 * The largest batch size which may be chosen when {@linkplain #ADAPTIVE_BATCH_SIZE
+	 * adaptive batching} is enabled.
+	 * <p>
+	 * The default is {@code 1000}.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_SIZE_MAX = "hibernate.jdbc.adaptive_batch_size.max";
+
+	/**
+	 * The execution time, in milliseconds, which {@linkplain #ADAPTIVE_BATCH_SIZE
+	 * adaptive batching} aims for when executing a single JDBC batch.
+	 * <p>
+	 * The default is {@code 50}.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_TARGET_TIME = "hibernate.jdbc.adaptive_batch_size.target_time";
+
+	/**
+	 * The maximum estimated number of bytes bound to a single JDBC batch when
+	 * {@linkplain #ADAPTIVE_BATCH_SIZE adaptive batching} is enabled. Batches
+	 * of wide rows, for example, rows containing LOBs, are kept small enough
+	 * to respect this limit.
+	 * <p>
+	 * The default is {@code 1048576}.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_MAX_BYTES = "hibernate.jdbc.adaptive_batch_size.max_bytes";
+
+	/**
+	 * When enabled, a JDBC batch which fills up while a session is being flushed is
+	 * executed on a worker thread, while the flushing thread binds the values of the
+	 * next rows to a fresh set of statements. This increases flush throughput when
+	 * the latency of the connection to the database is high.
+	 * <p>
+	 * At most one batch executes in the background for each session, and it always
+	 * completes before the connection is used for anything else, so statements are
+	 * executed in the same order as without pipelining, and an exception occurring
+	 * in the background is rethrown to the flushing thread. However, the JDBC driver
+	 * must allow a statement to be executed while plain values are being bound to other
+	 * statements of the same connection. Batches binding values which might require the
+	 * connection itself, that is, LOBs, arrays, structs, XML or other objects, are always
+	 * executed on the flushing thread.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.internal.PipelinedBatchImpl
+	 *
+	 * @since 6.3
+	 */
+	String PIPELINED_BATCH_EXECUTION = "hibernate.jdbc.pipelined_batch_execution";
+
 	/**
 	 * Specifies the {@linkplain java.util.TimeZone time zone} to use in the JDBC driver,
 	 * which is supposed to match the database timezone.
@@ -1229,6 +1335,17 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to check named HQL queries during startup, when
+	 * {@linkplain #QUERY_STARTUP_CHECKING startup checking} is enabled. The errors
+	 * found by all threads are reported together.
+	 * <p>
+	 * The default is {@code 1}, that is, named queries are checked sequentially.
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
@@ -1603,6 +1720,21 @@ public interface AvailableSettings {
 	@Deprecated(since="6.0")
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * Specifies a file in which the HQL query strings held by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}
+	 * are stored when the {@link org.hibernate.SessionFactory} is closed. When the file
+	 * exists at startup, and was written for the same domain model, the stored queries
+	 * are interpreted before the first one is executed. This moves the cost of interpreting
+	 * them to startup, and is not recorded in the query plan cache statistics. A file which
+	 * cannot be read is ignored.
+	 * <p>
+	 * The default is none, that is, interpretations are not stored.
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_PLAN_CACHE_HQL_STORE = "hibernate.query.plan_cache_hql_store";
+
 	/**
 	 * When enabled, specifies that Hibernate should not use contextual LOB creation.
 	 *
@@ -2360,6 +2492,35 @@ public interface AvailableSettings {
 	@SuppressWarnings("JavaDoc")
 	String MERGE_ENTITY_COPY_OBSERVER = "hibernate.event.merge.entity_copy_observer";
 
+	/**
+	 * When enabled, {@link org.hibernate.Session#merge(Object) merging} a detached entity
+	 * which is not already associated with the session does not read the current state of
+	 * the entity from the database. Instead, the entity is written by a single SQL upsert
+	 * statement, a {@code merge} or its equivalent, when the session is flushed. Upserts
+	 * for the same entity type are batched, so that merging a large detached object graph
+	 * results in one batched round trip per table. A detached entity which no longer
+	 * exists in the database is reinserted with the same identifier.
+	 * <p>
+	 * For a {@linkplain jakarta.persistence.Version versioned} entity, the version of the
+	 * detached instance is checked by the upsert statement itself, and a
+	 * {@link org.hibernate.StaleObjectStateException} is thrown if the row was modified
+	 * concurrently. Versioned entities are therefore only upserted if the dialect supports
+	 * a {@code merge} statement, or its equivalent.
+	 * <p>
+	 * The upsert is only used for entities which are mapped to a single hierarchy level,
+	 * which are not cached in the second-level cache, which own no collections, which have
+	 * no generated properties and no custom SQL, and which use no optimistic locking, or
+	 * version-based optimistic locking. Other entities are merged as usual. No insert or
+	 * update event listeners or lifecycle callbacks are notified of an upsert.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see org.hibernate.dialect.Dialect#createOptionalTableUpdateOperation
+	 *
+	 * @since 6.3
+	 */
+	String MERGE_DETACHED_USING_UPSERT = "hibernate.event.merge.upsert_detached";
+
 	/**
 	 * By default, {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria}
 	 * queries use bind parameters for any value passed via the JPA Criteria API.
@@ -2595,6 +2756,27 @@ public interface AvailableSettings {
 	 */
 	String TABLE_GENERATOR_STORE_LAST_USED = "hibernate.id.generator.stored_last_used";
 
+	/**
+	 * The number of rows, or <em>stripes</em>, across which each
+	 * {@linkplain jakarta.persistence.TableGenerator table generator} spreads its
+	 * persistent state. Each thread allocates blocks of values from one stripe,
+	 * selected by hashing the thread, so that concurrent allocations, from one or
+	 * many nodes, usually lock different rows of the generator table. The stripes
+	 * produce disjoint sets of identifiers.
+	 * <p>
+	 * The number of stripes of a generator whose table already holds values must
+	 * not be changed. It may be set per generator using the
+	 * {@value org.hibernate.id.enhanced.TableGenerator#SEGMENT_STRIPES_PARAM}
+	 * parameter, which takes precedence over this setting.
+	 * <p>
+	 * The default is {@code 1}, that is, a single row per generator.
+	 *
+	 * @see org.hibernate.id.enhanced.TableGenerator
+	 *
+	 * @since 6.3
+	 */
+	String TABLE_GENERATOR_SEGMENT_STRIPES = "hibernate.id.generator.segment_stripes";
+
 	/**
 	 * When {@linkplain org.hibernate.query.Query#setMaxResults(int) pagination} is used
 	 * in combination with a {@code fetch join} applied to a collection or many-valued
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.FlushMode;
@@ -34,6 +35,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
 import org.hibernate.internal.util.MarkerObject;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -421,6 +423,36 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		}
 	}
 
+	@Override
+	public Stream<?> streamElements() {
+		final CollectionEntry entry = session == null
+				? null
+				: session.getPersistenceContextInternal().getCollectionEntry( this );
+		if ( entry == null ) {
+			throwLazyInitializationExceptionIfNotConnected();
+			throwLazyInitializationException( "collection not associated with session" );
+			throw new AssertionFailure( "impossible" );
+		}
+		if ( hasQueuedOperations() ) {
+			session.flush();
+		}
+		final CollectionPersister persister = entry.getLoadedPersister();
+		final String ownerEntityName = persister.getOwnerEntityPersister().getEntityName();
+		final String role = persister.getRole();
+		final String attributePath = role.startsWith( ownerEntityName + '.' )
+				? role.substring( ownerEntityName.length() + 1 )
+				: persister.getAttributeMapping().getAttributeName();
+		final CollectionClassification classification =
+				persister.getCollectionSemantics().getCollectionClassification();
+		final boolean indexed = classification == CollectionClassification.LIST
+				|| classification == CollectionClassification.ARRAY;
+		final String hql = "select e from " + ownerEntityName + " o join o." + attributePath + " e where o = :owner"
+				+ ( indexed ? " order by index(e)" : "" );
+		return session.createSelectionQuery( hql, Object.class )
+				.setParameter( "owner", owner )
+				.getResultStream();
+	}
+
 	protected int getCachedSize() {
 		return cachedSize;
 	}
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -508,6 +509,23 @@ public interface PersistentCollection<E> extends LazyInitializable {
 	 */
 	Object elementByIndex(Object index);
 
+	/**
+	 * Stream the elements of this collection, or the values if it is a map, from the
+	 * database without initializing it. The elements of a list or an array are in the
+	 * order of their index. The {@linkplain jakarta.persistence.OrderBy ordering} of
+	 * a bag, set, or map is not applied. The stream must be closed.
+	 *
+	 * @throws UnsupportedOperationException if this collection does not support streaming
+	 *
+	 * @since 6.3
+	 */
+	default Stream<?> streamElements() {
+		throw new UnsupportedOperationException(
+				"Streaming the elements of an uninitialized collection is not supported by "
+						+ getClass().getName()
+		);
+	}
+
 	void initializeEmptyCollection(CollectionPersister persister);
 
 	/**
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
@@ -46,6 +47,10 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 				optionalTableUpdate.getMutatingTable().getTableMapping(),
 				optionalTableUpdate.getMutationTarget(),
 				getSql(),
+				// a failed optimistic lock check is only visible as a missing row count
+				optionalTableUpdate.hasOptimisticLockRestrictions()
+						? optionalTableUpdate.getExpectation()
+						: Expectations.NONE,
 				getParameterBinders()
 		);
 	}
@@ -67,6 +72,7 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 		//		and ...
 		//   then delete
 		// when matched
+		//      and t.version = ?
 		//   then update ...
 
 		// `merge into <target-table> [as] t`
@@ -95,6 +101,7 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 		appendSql( " " );
 
 		// when matched
+		//      and t.version = ?
 		//   then update ...
 		renderMergeUpdate( optionalTableUpdate );
 	}
@@ -169,7 +176,7 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 			appendSql( "=" );
 			keyBinding.getColumnReference().appendReadExpression( this, "s" );
 		}
-		// todo : optimistic locks?
+		// optimistic locks are applied to the update of a matched row
 
 		appendSql( ")" );
 	}
@@ -204,6 +211,11 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 	}
 
 	protected void renderMergeDelete(OptionalTableUpdate optionalTableUpdate) {
+		if ( !optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// the row of a mandatory table is never deleted, even if all its values are null
+			return;
+		}
+
 		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
 
 		appendSql( " when matched " );
@@ -219,7 +231,14 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 	protected void renderMergeUpdate(OptionalTableUpdate optionalTableUpdate) {
 		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
 
-		appendSql( " when matched then update set " );
+		appendSql( " when matched" );
+		if ( optionalTableUpdate.hasOptimisticLockRestrictions() ) {
+			optionalTableUpdate.forEachOptimisticLockBinding( (position, binding) -> {
+				appendSql( " and " );
+				renderMergeOptimisticLockRestriction( binding );
+			} );
+		}
+		appendSql( " then update set " );
 		for ( int i = 0; i < valueBindings.size(); i++ ) {
 			final ColumnValueBinding binding = valueBindings.get( i );
 			if ( i > 0 ) {
@@ -230,4 +249,15 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 			binding.getColumnReference().appendColumnForWrite( this, "s" );
 		}
 	}
+
+	protected void renderMergeOptimisticLockRestriction(ColumnValueBinding lockBinding) {
+		lockBinding.getColumnReference().appendReadExpression( this, "t" );
+		if ( lockBinding.getValueExpression() == null ) {
+			appendSql( " is null" );
+		}
+		else {
+			appendSql( "=" );
+			lockBinding.getValueExpression().accept( this );
+		}
+	}
 }
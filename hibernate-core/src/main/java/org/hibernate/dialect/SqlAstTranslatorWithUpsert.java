@@ -9,6 +9,7 @@ package org.hibernate.dialect;
 import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.persister.entity.mutation.EntityTableMapping;
 import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.tree.Statement;
@@ -39,9 +40,19 @@ public class SqlAstTranslatorWithUpsert<T extends JdbcOperation> extends Abstrac
 				optionalTableUpdate.getMutatingTable().getTableMapping(),
 				optionalTableUpdate.getMutationTarget(),
 				getSql(),
+				// a failed optimistic lock check is only visible as a missing row count
+				optionalTableUpdate.hasOptimisticLockRestrictions()
+						? optionalTableUpdate.getExpectation()
+						: Expectations.NONE,
 				getParameterBinders()
 		);
 
+		if ( !optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// the row of a mandatory table is never deleted, so the upsert
+			// can be executed directly, and batched
+			return upsertOperation;
+		}
+
 		return new DeleteOrUpsertOperation(
 				optionalTableUpdate.getMutationTarget(),
 				(EntityTableMapping) optionalTableUpdate.getMutatingTable().getTableMapping(),
@@ -155,7 +166,7 @@ public class SqlAstTranslatorWithUpsert<T extends JdbcOperation> extends Abstrac
 			appendSql( "=" );
 			keyBinding.getColumnReference().appendReadExpression( this, "s" );
 		}
-		// todo : optimistic locks?
+		// optimistic locks are applied to the update of a matched row
 
 		appendSql( ")" );
 	}
@@ -202,5 +213,25 @@ public class SqlAstTranslatorWithUpsert<T extends JdbcOperation> extends Abstrac
 			appendSql( "=" );
 			binding.getColumnReference().appendColumnForWrite( this, "s" );
 		}
+		if ( optionalTableUpdate.hasOptimisticLockRestrictions() ) {
+			appendSql( " where " );
+			optionalTableUpdate.forEachOptimisticLockBinding( (position, binding) -> {
+				if ( position > 0 ) {
+					appendSql( " and " );
+				}
+				renderMergeOptimisticLockRestriction( binding );
+			} );
+		}
+	}
+
+	protected void renderMergeOptimisticLockRestriction(ColumnValueBinding lockBinding) {
+		lockBinding.getColumnReference().appendReadExpression( this, "t" );
+		if ( lockBinding.getValueExpression() == null ) {
+			appendSql( " is null" );
+		}
+		else {
+			appendSql( "=" );
+			lockBinding.getValueExpression().accept( this );
+		}
 	}
 }
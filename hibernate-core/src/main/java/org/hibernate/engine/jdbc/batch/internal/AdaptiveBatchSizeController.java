@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * Tunes the size of JDBC batches per {@link BatchKey}, based on the observed
+ * execution time of previous batches for the same key, and on the estimated
+ * number of bytes bound to them.
+ * <p>
+ * After each execution, the size for the key is recalculated so that a batch
+ * would take roughly the {@linkplain #getTargetExecutionNanos() target time}
+ * to execute, and would bind no more than the {@linkplain #getMaxBatchBytes()
+ * maximum number of bytes}. The size is never more than doubled or less than
+ * halved by a single execution, and always stays within the configured bounds.
+ * A partial batch, that is, one executed before reaching its size, is never
+ * used as evidence that a larger batch would be better.
+ * <p>
+ * Sizes are shared by all sessions of the session factory, and updated without
+ * locking, so that concurrent updates simply overwrite each other.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_SIZE
+ */
+public class AdaptiveBatchSizeController {
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long targetExecutionNanos;
+	private final long maxBatchBytes;
+
+	private final ConcurrentHashMap<BatchKey, AtomicInteger> batchSizes = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizeController(
+			int minBatchSize,
+			int maxBatchSize,
+			long targetExecutionMillis,
+			long maxBatchBytes) {
+		if ( minBatchSize < 1 ) {
+			throw new IllegalArgumentException( "Minimum batch size must be positive" );
+		}
+		if ( maxBatchSize < minBatchSize ) {
+			throw new IllegalArgumentException( "Maximum batch size cannot be smaller than the minimum batch size" );
+		}
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.targetExecutionNanos = TimeUnit.MILLISECONDS.toNanos( targetExecutionMillis );
+		this.maxBatchBytes = maxBatchBytes;
+	}
+
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public long getTargetExecutionNanos() {
+		return targetExecutionNanos;
+	}
+
+	public long getMaxBatchBytes() {
+		return maxBatchBytes;
+	}
+
+	/**
+	 * The size to use for the next batch with the given key.
+	 *
+	 * @param key The batch key
+	 * @param initialBatchSize The size to start from if there is no previous
+	 * execution for the key
+	 */
+	public int getBatchSize(BatchKey key, int initialBatchSize) {
+		return batchSizes.computeIfAbsent( key, k -> new AtomicInteger( clamp( initialBatchSize ) ) ).get();
+	}
+
+	/**
+	 * Record the execution of a batch, and recalculate the size to use for
+	 * the next batch with the same key.
+	 *
+	 * @param key The batch key
+	 * @param batchSize The size the executed batch was built with
+	 * @param rowCount The number of rows which were actually added to the batch
+	 * @param executionNanos The time taken by the execution
+	 * @param boundBytes The estimated number of bytes bound to the batch
+	 *
+	 * @return The size to use for the next batch
+	 */
+	public int batchExecuted(BatchKey key, int batchSize, int rowCount, long executionNanos, long boundBytes) {
+		final AtomicInteger size = batchSizes.computeIfAbsent( key, k -> new AtomicInteger( clamp( batchSize ) ) );
+		if ( rowCount <= 0 ) {
+			return size.get();
+		}
+
+		final int currentSize = size.get();
+		long candidate = maxBatchSize;
+		if ( executionNanos > 0 && targetExecutionNanos > 0 ) {
+			final long nanosPerRow = Math.max( 1, executionNanos / rowCount );
+			candidate = Math.min( candidate, targetExecutionNanos / nanosPerRow );
+		}
+		if ( boundBytes > 0 && maxBatchBytes > 0 ) {
+			final long bytesPerRow = Math.max( 1, boundBytes / rowCount );
+			candidate = Math.min( candidate, maxBatchBytes / bytesPerRow );
+		}
+
+		// never change too abruptly in response to a single observation
+		candidate = Math.max( currentSize / 2, Math.min( 2L * currentSize, candidate ) );
+		if ( rowCount < batchSize ) {
+			// a partial batch tells us nothing about larger batches
+			candidate = Math.min( candidate, currentSize );
+		}
+
+		final int newSize = clamp( candidate );
+		if ( newSize != currentSize ) {
+			size.set( newSize );
+			if ( BATCH_TRACE_ENABLED ) {
+				BATCH_LOGGER.tracef(
+						"Adjusted adaptive batch size (%s -> %s) - `%s`",
+						currentSize,
+						newSize,
+						key.toLoggableString()
+				);
+			}
+		}
+		return newSize;
+	}
+
+	private int clamp(long batchSize) {
+		return (int) Math.max( minBatchSize, Math.min( maxBatchSize, batchSize ) );
+	}
+
+	/**
+	 * Estimate the number of bytes bound by the given bindings.
+	 */
+	public static long estimateBoundBytes(BindingGroup bindingGroup) {
+		if ( bindingGroup == null ) {
+			return 0;
+		}
+		final long[] bytes = new long[1];
+		bindingGroup.forEachBinding( (binding) -> bytes[0] += estimateSize( binding.getValue() ) );
+		return bytes[0];
+	}
+
+	private static long estimateSize(Object value) {
+		if ( value == null ) {
+			return 1;
+		}
+		else if ( value instanceof CharSequence ) {
+			return 2L * ( (CharSequence) value ).length();
+		}
+		else if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).length;
+		}
+		else if ( value instanceof char[] ) {
+			return 2L * ( (char[]) value ).length;
+		}
+		else if ( value instanceof Blob || value instanceof Clob ) {
+			// avoid materializing the LOB, just assume it is big
+			return 64 * 1024;
+		}
+		else {
+			return 8;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -17,6 +18,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -29,8 +31,10 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final AdaptiveBatchSizeController batchSizeController;
+	private final ExecutorService batchExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,20 +43,64 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use, or the initial batch
+	 * size when adaptive batching is enabled.  Can be overridden on
+	 * {@link #buildBatch}
+	 * @param batchSizeController The controller used to tune batch sizes,
+	 * or {@code null} if adaptive batching is disabled
+	 */
+	public BatchBuilderImpl(int globalBatchSize, AdaptiveBatchSizeController batchSizeController) {
+		this( globalBatchSize, batchSizeController, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use, or the initial batch
+	 * size when adaptive batching is enabled.  Can be overridden on
+	 * {@link #buildBatch}
+	 * @param batchSizeController The controller used to tune batch sizes,
+	 * or {@code null} if adaptive batching is disabled
+	 * @param batchExecutor The executor used to execute batches while the
+	 * next batch is being prepared, or {@code null} if pipelined execution
+	 * is disabled
+	 */
+	public BatchBuilderImpl(
+			int globalBatchSize,
+			AdaptiveBatchSizeController batchSizeController,
+			ExecutorService batchExecutor) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, adaptive=%s, pipelined=%s)",
+					globalBatchSize,
+					batchSizeController != null,
+					batchExecutor != null
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.batchSizeController = batchSizeController;
+		this.batchExecutor = batchExecutor;
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	/**
+	 * The controller used to tune batch sizes, or {@code null} if
+	 * adaptive batching is disabled.
+	 */
+	public AdaptiveBatchSizeController getBatchSizeController() {
+		return batchSizeController;
+	}
+
 	@Override
 	public Batch buildBatch(
 			BatchKey key,
@@ -64,7 +112,30 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final AdaptiveBatchSizeController controller =
+				// a batch size set explicitly on the session wins over the adaptive size
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize() == null ? batchSizeController : null;
+		final int batchSizeToUse = controller == null ? batchSize : controller.getBatchSize( key, batchSize );
+
+		if ( batchExecutor != null ) {
+			return new PipelinedBatchImpl(
+					key,
+					statementGroupSupplier,
+					batchSizeToUse,
+					jdbcCoordinator,
+					controller,
+					batchExecutor
+			);
+		}
+
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSizeToUse, jdbcCoordinator, controller );
+	}
+
+	@Override
+	public void stop() {
+		if ( batchExecutor != null ) {
+			batchExecutor.shutdown();
+		}
 	}
 
 
@@ -7,6 +7,10 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -50,7 +54,9 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					resolveBatchSizeController( configurationValues ),
+					resolveBatchExecutor( configurationValues )
 			);
 		}
 
@@ -69,4 +75,37 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 			throw new ServiceException( "Could not build explicit BatchBuilder [" + builderClassName + "]", e );
 		}
 	}
+
+	private static AdaptiveBatchSizeController resolveBatchSizeController(Map<String, Object> configurationValues) {
+		if ( !ConfigurationHelper.getBoolean( AvailableSettings.ADAPTIVE_BATCH_SIZE, configurationValues ) ) {
+			return null;
+		}
+
+		return new AdaptiveBatchSizeController(
+				ConfigurationHelper.getInt( AvailableSettings.ADAPTIVE_BATCH_SIZE_MIN, configurationValues, 2 ),
+				ConfigurationHelper.getInt( AvailableSettings.ADAPTIVE_BATCH_SIZE_MAX, configurationValues, 1000 ),
+				ConfigurationHelper.getLong( AvailableSettings.ADAPTIVE_BATCH_TARGET_TIME, configurationValues, 50 ),
+				ConfigurationHelper.getLong( AvailableSettings.ADAPTIVE_BATCH_MAX_BYTES, configurationValues, 1024 * 1024 )
+		);
+	}
+
+	private static ExecutorService resolveBatchExecutor(Map<String, Object> configurationValues) {
+		if ( !ConfigurationHelper.getBoolean( AvailableSettings.PIPELINED_BATCH_EXECUTION, configurationValues ) ) {
+			return null;
+		}
+
+		return Executors.newCachedThreadPool( new BatchExecutionThreadFactory() );
+	}
+
+	private static class BatchExecutionThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Execution Thread-" + threadNumber.incrementAndGet() );
+			return thread;
+		}
+	}
 }
@@ -22,7 +22,9 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
@@ -39,8 +41,8 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
+	private final AdaptiveBatchSizeController batchSizeController;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -48,7 +50,9 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private int batchSizeToUse;
 	private int batchPosition;
+	private long batchBoundBytes;
 	private boolean batchExecuted;
 
 	public BatchImpl(
@@ -56,6 +60,19 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Creates a batch whose size is tuned by the given {@link AdaptiveBatchSizeController}
+	 * after each execution.
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSizeController batchSizeController) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -72,6 +89,7 @@ public class BatchImpl implements Batch {
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
 		this.batchSizeToUse = batchSizeToUse;
+		this.batchSizeController = batchSizeController;
 
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
@@ -123,6 +141,11 @@ public class BatchImpl implements Batch {
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				if ( batchSizeController != null ) {
+					batchBoundBytes += AdaptiveBatchSizeController.estimateBoundBytes(
+							jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() )
+					);
+				}
 				jdbcValueBindings.beforeStatement( statementDetails );
 
 				try {
@@ -149,13 +172,38 @@ public class BatchImpl implements Batch {
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			performImplicitExecution();
 			batchPosition = 0;
+			batchBoundBytes = 0;
 			batchExecuted = true;
 		}
 	}
 
+	/**
+	 * The number of rows added to the batch since it was last executed
+	 */
+	protected final int getBatchPosition() {
+		return batchPosition;
+	}
+
+	/**
+	 * The estimated number of bytes bound to the batch since it was last executed,
+	 * or zero if adaptive batching is disabled
+	 */
+	protected final long getBatchBoundBytes() {
+		return batchBoundBytes;
+	}
+
+	protected final JdbcCoordinator getJdbcCoordinator() {
+		return jdbcCoordinator;
+	}
+
 	protected void releaseStatements() {
+		releaseStatements( getStatementGroup() );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	protected void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -169,7 +217,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -246,6 +293,13 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	/**
+	 * Execute the batch because it reached its size while adding to it.
+	 */
+	protected void performImplicitExecution() {
+		performExecution();
+	}
+
 	protected void performExecution() {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
@@ -258,52 +312,102 @@ public class BatchImpl implements Batch {
 
 		//noinspection deprecation
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final long executionStart = batchSizeController == null ? 0 : System.nanoTime();
 		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
+			executeStatements( getStatementGroup(), batchPosition, observer );
+			if ( batchSizeController != null ) {
+				adjustBatchSize( System.nanoTime() - executionStart, batchPosition, batchBoundBytes );
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			batchPosition = 0;
+			batchBoundBytes = 0;
+		}
+	}
 
-				if ( statement == null ) {
-					return;
-				}
+	/**
+	 * Execute the statements of the given group.
+	 *
+	 * @param statementGroup The statements to execute
+	 * @param rowCount The number of rows added to the statements
+	 * @param observer The observer to notify of the execution, or {@code null}
+	 */
+	protected void executeStatements(PreparedStatementGroup statementGroup, int rowCount, JdbcObserver observer) {
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
 
-				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						try {
+			if ( statement == null ) {
+				return;
+			}
+
+			try {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					try {
+						if ( observer != null ) {
 							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
 						}
-						finally {
+						rowCounts = statement.executeBatch();
+					}
+					finally {
+						if ( observer != null ) {
 							observer.jdbcExecuteBatchEnd();
 						}
-						checkRowCounts( rowCounts, statementDetails );
-					}
-					else {
-						statement.executeBatch();
 					}
+					checkRowCounts( rowCounts, statementDetails, rowCount, statementGroup.getNumberOfStatements() );
 				}
-				catch (SQLException e) {
-					abortBatch( e );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
-					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
-				}
-				catch (RuntimeException re) {
-					abortBatch( re );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
-					throw re;
+				else {
+					statement.executeBatch();
 				}
-			} );
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		} );
+	}
+
+	protected final void adjustBatchSize(long executionNanos, int rowCount, long boundBytes) {
+		if ( batchSizeController == null ) {
+			return;
 		}
-		finally {
-			batchPosition = 0;
+
+		final int newBatchSize = batchSizeController.batchExecuted(
+				key,
+				batchSizeToUse,
+				rowCount,
+				executionNanos,
+				boundBytes
+		);
+		if ( newBatchSize != batchSizeToUse ) {
+			batchSizeToUse = newBatchSize;
+			final SessionFactoryImplementor factory = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getSessionFactory();
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.adaptiveJdbcBatchSizeChanged( key.toLoggableString(), newBatchSize );
+			}
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	private void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int rowCount,
+			int numberOfStatements) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 ) {
-			final int expectedNumberOfCounts = batchPosition / getStatementGroup().getNumberOfStatements();
+		if ( rowCount != 0 ) {
+			final int expectedNumberOfCounts = rowCount / numberOfStatements;
 			if ( numberOfRowCounts != expectedNumberOfCounts ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
@@ -0,0 +1,235 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementDetailsStandard;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A {@link BatchImpl} which, when it fills up, hands its statements off to a worker
+ * thread for execution, and continues collecting rows into a fresh set of statements.
+ * The thread adding rows to the batch, usually the thread flushing the session, may
+ * then bind the values of the next rows while the database executes the previous ones.
+ * <p>
+ * At most one execution is in progress at any time, and it is always awaited before:
+ * <ul>
+ *     <li>the next execution of this batch,
+ *     <li>the {@linkplain #execute() explicit execution} or {@linkplain #release() release}
+ *     of this batch, and
+ *     <li>any other use of the connection by the {@link JdbcCoordinator}, that is, any
+ *     statement preparation or execution.
+ * </ul>
+ * <p>
+ * Statements are therefore executed in the same order as with a {@link BatchImpl}. If the
+ * execution on the worker thread fails, the batch is aborted and the exception is rethrown
+ * by whichever of these operations awaits the execution.
+ * <p>
+ * Values which might need the connection to be bound, such as LOBs, arrays, structs or
+ * XML, would use the connection concurrently with the execution. A batch with such values
+ * is therefore {@linkplain #isPipelined() not pipelined}, but executed like a {@link BatchImpl}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PIPELINED_BATCH_EXECUTION
+ */
+public class PipelinedBatchImpl extends BatchImpl {
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor executor;
+	private final boolean pipelined;
+
+	private PreparedStatementGroup statementGroup;
+	private PendingExecution pendingExecution;
+
+	public PipelinedBatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSizeController batchSizeController,
+			Executor executor) {
+		super( key, statementGroupSupplier.get(), batchSizeToUse, jdbcCoordinator, batchSizeController );
+		this.statementGroup = super.getStatementGroup();
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
+		this.pipelined = !statementGroup.hasMatching( PipelinedBatchImpl::isConnectionRequiredForBinding );
+	}
+
+	/**
+	 * Binding a value which needs the connection, for example a LOB or an array,
+	 * would use the connection while the batch executes, so such statements are
+	 * executed synchronously.
+	 */
+	private static boolean isConnectionRequiredForBinding(PreparedStatementDetails statementDetails) {
+		return !( statementDetails instanceof PreparedStatementDetailsStandard )
+				|| ( (PreparedStatementDetailsStandard) statementDetails ).isConnectionRequiredForBinding();
+	}
+
+	/**
+	 * Whether this batch is executed while the next rows are bound. This is not
+	 * the case if binding values to the statements of the batch might use the
+	 * connection.
+	 */
+	public boolean isPipelined() {
+		return pipelined;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	protected void performImplicitExecution() {
+		if ( !pipelined ) {
+			super.performImplicitExecution();
+			return;
+		}
+		awaitPendingExecution();
+
+		final PreparedStatementGroup executingGroup = statementGroup;
+		final int rowCount = getBatchPosition();
+		final long boundBytes = getBatchBoundBytes();
+
+		// prepare the statements needed for the next rows now, since
+		// the connection must not be used while the batch executes
+		final PreparedStatementGroup nextGroup = statementGroupSupplier.get();
+		nextGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatementDetails executingDetails = executingGroup.getPreparedStatementDetails( tableName );
+			if ( executingDetails != null && executingDetails.getStatement() != null ) {
+				statementDetails.resolveStatement();
+			}
+		} );
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch asynchronously (%s) - `%s`",
+					rowCount,
+					getKey().toLoggableString()
+			);
+		}
+
+		//noinspection deprecation
+		final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		observer.jdbcExecuteBatchStart();
+		pendingExecution = new PendingExecution(
+				executingGroup,
+				rowCount,
+				boundBytes,
+				observer,
+				CompletableFuture.supplyAsync(
+						() -> {
+							final long executionStart = System.nanoTime();
+							// the observer is not thread-safe, so we notify it from this thread
+							executeStatements( executingGroup, rowCount, null );
+							return System.nanoTime() - executionStart;
+						},
+						executor
+				)
+		);
+		statementGroup = nextGroup;
+	}
+
+	@Override
+	public void awaitPendingExecution() {
+		try {
+			completePendingExecution();
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+	}
+
+	private void completePendingExecution() {
+		final PendingExecution execution = pendingExecution;
+		if ( execution == null ) {
+			return;
+		}
+		pendingExecution = null;
+
+		try {
+			final long executionNanos = execution.await();
+			adjustBatchSize( executionNanos, execution.rowCount, execution.boundBytes );
+		}
+		finally {
+			releaseStatements( execution.statementGroup );
+		}
+	}
+
+	@Override
+	public void execute() {
+		awaitPendingExecution();
+		super.execute();
+	}
+
+	@Override
+	public void release() {
+		try {
+			completePendingExecution();
+		}
+		catch (RuntimeException e) {
+			// the batch is being discarded anyway
+			BATCH_LOGGER.debug( "Pending batch execution failed on release", e );
+		}
+		finally {
+			super.release();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatchImpl(" + getKey().toLoggableString() + ")";
+	}
+
+	private static class PendingExecution {
+		private final PreparedStatementGroup statementGroup;
+		private final int rowCount;
+		private final long boundBytes;
+		private final JdbcObserver observer;
+		private final CompletableFuture<Long> executionNanos;
+
+		private PendingExecution(
+				PreparedStatementGroup statementGroup,
+				int rowCount,
+				long boundBytes,
+				JdbcObserver observer,
+				CompletableFuture<Long> executionNanos) {
+			this.statementGroup = statementGroup;
+			this.rowCount = rowCount;
+			this.boundBytes = boundBytes;
+			this.observer = observer;
+			this.executionNanos = executionNanos;
+		}
+
+		private long await() {
+			try {
+				return executionNanos.join();
+			}
+			catch (CompletionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				throw new HibernateException( "Could not execute batch", cause );
+			}
+			finally {
+				observer.jdbcExecuteBatchEnd();
+			}
+		}
+	}
+}
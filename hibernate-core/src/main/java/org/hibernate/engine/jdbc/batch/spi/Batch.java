@@ -56,6 +56,17 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Wait for the completion of any execution of this batch which is still in progress
+	 * on another thread. Called before the JDBC connection is used for anything else.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PIPELINED_BATCH_EXECUTION
+	 *
+	 * @since 6.3
+	 */
+	default void awaitPendingExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
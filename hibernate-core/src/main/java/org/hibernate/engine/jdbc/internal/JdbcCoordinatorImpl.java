@@ -37,6 +37,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -65,6 +66,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private Statement lastQuery;
 	private final boolean isUserSuppliedConnection;
+	private final transient PreparedStatementCache statementCache;
 
 	/**
 	 * If true, manually (and temporarily) circumvent aggressive release processing.
@@ -82,8 +84,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		// statements are only cached on connections we release ourselves
+		final int statementCacheSize = owner.getJdbcSessionContext().getStatementCacheSize();
+		this.statementCache = statementCacheSize > 0 && !isUserSuppliedConnection
+				? new PreparedStatementCache( statementCacheSize )
+				: null;
+
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				statementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -93,6 +102,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 					owner.getJdbcConnectionAccess(),
 					owner.getJdbcSessionContext(),
 					resourceRegistry,
+					statementCache,
 					jdbcServices
 			);
 		}
@@ -106,6 +116,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcSessionOwner owner) {
 		this.logicalConnection = logicalConnection;
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
+		this.statementCache = null;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
 	}
@@ -115,6 +126,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of query statements prepared on the physical connection, or {@code null}
+	 */
+	PreparedStatementCache getPreparedStatementCache() {
+		return statementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
@@ -212,10 +230,22 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * With pipelined batch execution, a batch may still be executing
+	 * on another thread, and must complete before anything else uses
+	 * the connection, so that statements are executed in order.
+	 */
+	private void awaitPendingBatchExecution() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitPendingExecution();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
 	public StatementPreparer getStatementPreparer() {
+		awaitPendingBatchExecution();
 		if ( statementPreparer == null ) {
 			statementPreparer = new StatementPreparerImpl( this, jdbcServices );
 		}
@@ -226,6 +256,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public MutationStatementPreparer getMutationStatementPreparer() {
+		awaitPendingBatchExecution();
 		if ( mutationStatementPreparer == null ) {
 			mutationStatementPreparer = new MutationStatementPreparerImpl( this, jdbcServices );
 		}
@@ -236,6 +267,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public ResultSetReturn getResultSetReturn() {
+		awaitPendingBatchExecution();
 		if ( resultSetExtractor == null ) {
 			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices );
 		}
@@ -17,9 +17,11 @@ import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of {@link StatementPreparer}.
@@ -132,7 +134,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, scrollMode.toResultSetType(), isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -143,7 +145,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, ResultSet.TYPE_FORWARD_ONLY, isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -195,7 +197,7 @@ class StatementPreparerImpl implements StatementPreparer {
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
-		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
+		protected void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
 			final int remainingTransactionTimeOutPeriod = jdbcCoordinator.determineRemainingTransactionTimeOutPeriod();
 			if ( remainingTransactionTimeOutPeriod > 0 ) {
 				preparedStatement.setQueryTimeout( remainingTransactionTimeOutPeriod );
@@ -204,8 +206,42 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
+		private final int resultSetType;
+		private final boolean callable;
+
+		protected QueryStatementPreparationTemplate(String sql, int resultSetType, boolean callable) {
 			super( sql );
+			this.resultSetType = resultSetType;
+			this.callable = callable;
+		}
+
+		@Override
+		public PreparedStatement prepareStatement() {
+			final PreparedStatementCache statementCache = jdbcCoordinator.getPreparedStatementCache();
+			if ( statementCache == null ) {
+				return super.prepareStatement();
+			}
+
+			final PreparedStatement cached = statementCache.take( sql, resultSetType, callable );
+			if ( cached == null ) {
+				final PreparedStatement preparedStatement = super.prepareStatement();
+				statementCache.track( preparedStatement, sql, resultSetType, callable );
+				return preparedStatement;
+			}
+
+			try {
+				jdbcServices.getSqlStatementLogger().logStatement( sql );
+				setStatementTimeout( cached );
+				postProcess( cached );
+			}
+			catch ( SQLException e ) {
+				throw sqlExceptionHelper().convert( e, "could not prepare statement", sql );
+			}
+			final StatisticsImplementor statistics = settings().getSessionFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheHit();
+			}
+			return cached;
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
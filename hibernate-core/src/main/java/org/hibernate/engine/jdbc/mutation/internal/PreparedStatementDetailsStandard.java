@@ -16,7 +16,11 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
 
 /**
  * Describes a particular PreparedStatement within a {@linkplain PreparedStatementGroup group}
@@ -29,6 +33,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
 	private final Expectation expectation;
 	private final JdbcServices jdbcServices;
+	private final boolean connectionRequiredForBinding;
 
 	private PreparedStatement statement;
 
@@ -56,6 +61,37 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		this.jdbcStatementCreator = jdbcStatementCreator;
 		this.expectation = expectation;
 		this.jdbcServices = jdbcServices;
+		this.connectionRequiredForBinding = isConnectionRequiredForBinding( tableMutation );
+	}
+
+	private static boolean isConnectionRequiredForBinding(PreparableMutationOperation tableMutation) {
+		for ( JdbcParameterBinder parameterBinder : tableMutation.getParameterBinders() ) {
+			if ( !( parameterBinder instanceof AbstractJdbcParameter ) ) {
+				return true;
+			}
+			final JdbcType jdbcType = ( (AbstractJdbcParameter) parameterBinder ).getJdbcMapping().getJdbcType();
+			if ( jdbcType.isLob() ) {
+				return true;
+			}
+			switch ( jdbcType.getDefaultSqlTypeCode() ) {
+				case SqlTypes.ARRAY:
+				case SqlTypes.STRUCT:
+				case SqlTypes.SQLXML:
+				case SqlTypes.JAVA_OBJECT:
+				case SqlTypes.OTHER:
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether binding values to the statement might use the {@link java.sql.Connection},
+	 * for example to {@linkplain java.sql.Connection#createBlob() create LOBs} or
+	 * {@linkplain java.sql.Connection#createArrayOf arrays}.
+	 */
+	public boolean isConnectionRequiredForBinding() {
+		return connectionRequiredForBinding;
 	}
 
 	@Override
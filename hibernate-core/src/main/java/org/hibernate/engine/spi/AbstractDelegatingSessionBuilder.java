@@ -123,4 +123,10 @@ public abstract class AbstractDelegatingSessionBuilder implements SessionBuilder
 		delegate.flushMode( flushMode );
 		return this;
 	}
+
+	@Override
+	public SessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
 }
@@ -154,6 +154,12 @@ public abstract class AbstractDelegatingSharedSessionBuilder implements SharedSe
 		return this;
 	}
 
+	@Override
+	public SharedSessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
+
 	@Override
 	public SharedSessionBuilder flushMode() {
 		delegate.flushMode();
@@ -278,6 +278,7 @@ public abstract class AbstractSaveEventListener<C>
 				entity,
 				persister,
 				useIdentityColumn,
+				context,
 				source,
 				shouldDelayIdentityInserts
 		);
@@ -347,6 +348,7 @@ public abstract class AbstractSaveEventListener<C>
 			Object entity,
 			EntityPersister persister,
 			boolean useIdentityColumn,
+			C context,
 			EventSource source,
 			boolean shouldDelayIdentityInserts) {
 		if ( useIdentityColumn ) {
@@ -362,20 +364,43 @@ public abstract class AbstractSaveEventListener<C>
 			return insert;
 		}
 		else {
-			final EntityInsertAction insert = new EntityInsertAction(
-					id,
-					values,
-					entity,
-					getVersion( values, persister ),
-					persister,
-					isVersionIncrementDisabled(),
-					source
-			);
+			final EntityInsertAction insert = createInsertAction( values, id, entity, persister, context, source );
 			source.getActionQueue().addAction( insert );
 			return insert;
 		}
 	}
 
+	/**
+	 * Create the action which inserts the given entity, when its identifier
+	 * is not generated by the insert itself.
+	 *
+	 * @param values The state of the entity to be inserted
+	 * @param id The identifier of the entity
+	 * @param entity The entity to be inserted
+	 * @param persister The entity's persister instance.
+	 * @param context Generally cascade-specific information.
+	 * @param source The session which is the source of the current event.
+	 *
+	 * @return The action to be added to the action queue
+	 */
+	protected EntityInsertAction createInsertAction(
+			Object[] values,
+			Object id,
+			Object entity,
+			EntityPersister persister,
+			C context,
+			EventSource source) {
+		return new EntityInsertAction(
+				id,
+				values,
+				entity,
+				getVersion( values, persister ),
+				persister,
+				isVersionIncrementDisabled(),
+				source
+		);
+	}
+
 	protected Map<Object,Object> getMergeMap(C anything) {
 		return null;
 	}
@@ -13,10 +13,13 @@ import org.hibernate.HibernateException;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
+import org.hibernate.action.internal.EntityInsertAction;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -315,6 +318,11 @@ public class DefaultMergeEventListener
 		Object id = getDetachedEntityId( event, entity, persister );
 		// we must clone embedded composite identifiers, or we will get back the same instance that we pass in
 		final Object clonedIdentifier = persister.getIdentifierType().deepCopy( id, source.getFactory() );
+		if ( isUpsertable( entity, clonedIdentifier, persister, source ) ) {
+			// skip the select, and write the entity using an upsert
+			entityIsUpserted( event, clonedIdentifier, copyCache );
+			return;
+		}
 		// apply the special MERGE fetch profile and perform the resolution (Session#get)
 		final Object result = source.getLoadQueryInfluencers().fromInternalFetchProfile(
 				CascadingFetchProfile.MERGE,
@@ -345,6 +353,98 @@ public class DefaultMergeEventListener
 		}
 	}
 
+	private static boolean isUpsertable(Object entity, Object id, EntityPersister persister, EventSource source) {
+		return persister.getMergeCoordinator() != null
+			&& id != null
+			&& !persister.hasUninitializedLazyProperties( entity )
+			&& source.getPersistenceContextInternal().getEntity( source.generateEntityKey( id, persister ) ) == null;
+	}
+
+	/**
+	 * Handle a detached entity which is not associated with the session, without
+	 * loading its current state. Instead, a managed copy is scheduled for an
+	 * upsert, which includes the version check, if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+	 */
+	protected void entityIsUpserted(MergeEvent event, Object id, MergeContext copyCache) {
+		LOG.trace( "Merging detached instance using upsert" );
+
+		final Object entity = event.getEntity();
+		final EventSource session = event.getSession();
+		final EntityPersister persister = session.getEntityPersister( event.getEntityName(), entity );
+		if ( persister.getMergeCoordinator() == null ) {
+			// the entity cannot be upserted, so merge it as usual
+			entityIsDetached( event, copyCache );
+			return;
+		}
+		final Object copy = copyEntity( copyCache, entity, session, persister, id );
+
+		super.cascadeBeforeSave( session, persister, entity, copyCache );
+		copyValues( persister, entity, copy, session, copyCache, ForeignKeyDirection.FROM_PARENT );
+
+		if ( persister.isVersioned() ) {
+			// the copy carries the next version, and the
+			// upsert checks the version of the detached entity
+			final Object expectedVersion = persister.getVersion( entity );
+			persister.setValue(
+					copy,
+					persister.getVersionProperty(),
+					Versioning.incrementVersion( copy, expectedVersion, persister, session )
+			);
+			copyCache.markForUpsert( copy, expectedVersion );
+		}
+		else {
+			copyCache.markForUpsert( copy, null );
+		}
+
+		// like for a save with a requested id, but without the callbacks
+		performSave( copy, id, persister, false, copyCache, session, true );
+
+		super.cascadeAfterSave( session, persister, entity, copyCache );
+		copyValues( persister, entity, copy, session, copyCache, ForeignKeyDirection.TO_PARENT );
+
+		new CollectionVisitor( copy, id, session )
+				.processEntityPropertyValues(
+						persister.getPropertyValuesToInsert( copy, getMergeMap( copyCache ), session ),
+						persister.getPropertyTypes()
+				);
+
+		event.setResult( copy );
+
+		if ( isPersistentAttributeInterceptable( copy ) ) {
+			final PersistentAttributeInterceptor interceptor = asPersistentAttributeInterceptable( copy ).$$_hibernate_getInterceptor();
+			if ( interceptor == null ) {
+				persister.getBytecodeEnhancementMetadata().injectInterceptor( copy, id, session );
+			}
+		}
+	}
+
+	@Override
+	protected EntityInsertAction createInsertAction(
+			Object[] values,
+			Object id,
+			Object entity,
+			EntityPersister persister,
+			MergeContext context,
+			EventSource source) {
+		if ( context.isMarkedForUpsert( entity ) ) {
+			return new EntityUpsertAction(
+					id,
+					values,
+					entity,
+					Versioning.getVersion( values, persister ),
+					context.getExpectedVersionForUpsert( entity ),
+					persister,
+					isVersionIncrementDisabled(),
+					source
+			);
+		}
+		else {
+			return super.createInsertAction( values, id, entity, persister, context, source );
+		}
+	}
+
 	private static Object targetEntity(MergeEvent event, Object entity, EntityPersister persister, Object id, Object result) {
 		final EventSource source = event.getSession();
 		final String entityName = persister.getEntityName();
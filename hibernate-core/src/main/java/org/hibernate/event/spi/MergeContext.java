@@ -93,6 +93,10 @@ public class MergeContext implements Map<Object,Object> {
 	    // key is a merge entity;
 	    // value is a flag indicating if the merge entity is currently in the merge process.
 
+	private Map<Object,Object> upsertEntityToExpectedVersionXref;
+		// key is a managed entity which is to be upserted, rather than inserted;
+		// value is the version expected in the database, or null if unversioned.
+
 	public MergeContext(EventSource session, EntityCopyObserver entityCopyObserver){
 		this.session = session;
 		this.entityCopyObserver = entityCopyObserver;
@@ -105,6 +109,9 @@ public class MergeContext implements Map<Object,Object> {
 		mergeToManagedEntityXref.clear();
 		managedToMergeEntityXref.clear();
 		mergeEntityToOperatedOnFlagMap.clear();
+		if ( upsertEntityToExpectedVersionXref != null ) {
+			upsertEntityToExpectedVersionXref.clear();
+		}
 	}
 
 	/**
@@ -349,6 +356,45 @@ public class MergeContext implements Map<Object,Object> {
 		mergeEntityToOperatedOnFlagMap.put( mergeEntity, isOperatedOn );
 	}
 
+	/**
+	 * Mark the given managed entity as one which is written to the database using an
+	 * upsert, instead of an insert, because it is not known whether it already exists.
+	 *
+	 * @param managedEntity the managed entity; must be non-null
+	 * @param expectedVersion the version the entity is expected to have in the database,
+	 * if it exists there, or null if the entity is not versioned
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+	 */
+	public void markForUpsert(Object managedEntity, Object expectedVersion) {
+		if ( managedEntity == null ) {
+			throw new NullPointerException( "null entities are not supported by " + getClass().getName() );
+		}
+		if ( upsertEntityToExpectedVersionXref == null ) {
+			upsertEntityToExpectedVersionXref = new IdentityHashMap<>( 10 );
+		}
+		upsertEntityToExpectedVersionXref.put( managedEntity, expectedVersion );
+	}
+
+	/**
+	 * Returns true if the given managed entity was {@linkplain #markForUpsert marked}
+	 * to be written using an upsert.
+	 */
+	public boolean isMarkedForUpsert(Object managedEntity) {
+		return upsertEntityToExpectedVersionXref != null
+				&& upsertEntityToExpectedVersionXref.containsKey( managedEntity );
+	}
+
+	/**
+	 * Returns the version the given managed entity, {@linkplain #markForUpsert marked}
+	 * to be written using an upsert, is expected to have in the database.
+	 */
+	public Object getExpectedVersionForUpsert(Object managedEntity) {
+		return upsertEntityToExpectedVersionXref == null
+				? null
+				: upsertEntityToExpectedVersionXref.get( managedEntity );
+	}
+
 	/**
 	 * Returns an unmodifiable map view of the managed-to-merge entity
 	 * cross-references.
@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -75,6 +76,14 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
  * segment). The configuration parameter {@value #CONFIG_PREFER_SEGMENT_PER_ENTITY} can
  * be used to change that to instead default to using a row for each entity name.
  * <p>
+ * When many threads or nodes allocate values from the same segment, its row becomes a
+ * point of contention, since each allocation locks it. The parameter
+ * {@value #SEGMENT_STRIPES_PARAM} splits the segment into several rows, called stripes,
+ * with the segment values {@code segment#0}, {@code segment#1}, and so on. Each thread
+ * allocates from one stripe, and the stripes produce disjoint, interleaved identifiers:
+ * the {@code n}-th value allocated from stripe {@code i} of {@code k} stripes becomes
+ * the identifier {@code initial + (n - initial) * k + i}.
+ * <p>
  * <table>
  * <caption>Configuration parameters</caption>
  * 	 <tr>
@@ -125,6 +134,12 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
  *     <td><em>depends on defined increment size</em></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@value #SEGMENT_STRIPES_PARAM}</td>
+ *     <td>{@value #DEF_SEGMENT_STRIPES}</td>
+ *     <td>The number of rows across which the segment is striped;
+ *         must not be changed once values have been allocated</td>
+ *   </tr>
  * </table>
  *
  * @author Steve Ebersole
@@ -195,6 +210,22 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 */
 	public static final int DEF_SEGMENT_LENGTH = 255;
 
+	/**
+	 * The number of rows, or stripes, across which the segment is spread, in order to reduce the
+	 * contention on the row of the segment.  The default value is the value of the setting
+	 * {@value AvailableSettings#TABLE_GENERATOR_SEGMENT_STRIPES}, or {@value #DEF_SEGMENT_STRIPES}.
+	 *
+	 * @since 6.3
+	 */
+	public static final String SEGMENT_STRIPES_PARAM = "segment_stripes";
+
+	/**
+	 * The default {@value #SEGMENT_STRIPES_PARAM} value
+	 *
+	 * @since 6.3
+	 */
+	public static final int DEF_SEGMENT_STRIPES = 1;
+
 	private boolean storeLastUsedValue;
 
 
@@ -218,6 +249,11 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	private Optimizer optimizer;
 	private long accessCount;
 
+	private int segmentStripes;
+	private int stripeOffset;
+	private String[] stripeSegmentValues;
+	private Optimizer[] stripeOptimizers;
+
 	private String contributor;
 
 	/**
@@ -302,7 +338,21 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	}
 
 	/**
-	 * The optimizer being used by this generator.
+	 * The number of rows across which the {@linkplain #getSegmentValue() segment}
+	 * is striped.
+	 *
+	 * @return The number of stripes.
+	 *
+	 * @since 6.3
+	 */
+	public final int getSegmentStripes() {
+		return segmentStripes;
+	}
+
+	/**
+	 * The optimizer being used by this generator. If the segment is
+	 * {@linkplain #getSegmentStripes() striped}, the optimizer of the
+	 * first stripe.
 	 *
 	 * @return Out optimizer.
 	 */
@@ -347,12 +397,21 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		initialValue = determineInitialValue( parameters );
 		incrementSize = determineIncrementSize( parameters );
 
-		optimizer = OptimizerFactory.buildOptimizer(
-				determineOptimizationStrategy( parameters, incrementSize ),
-				identifierType.getReturnedClass(),
-				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
-		);
+		segmentStripes = determineSegmentStripes( parameters, serviceRegistry );
+		stripeSegmentValues = new String[segmentStripes];
+		stripeOptimizers = new Optimizer[segmentStripes];
+		for ( int i = 0; i < segmentStripes; i++ ) {
+			stripeSegmentValues[i] = segmentStripes == 1 ? segmentValue : segmentValue + '#' + i;
+			stripeOptimizers[i] = OptimizerFactory.buildOptimizer(
+					determineOptimizationStrategy( parameters, incrementSize ),
+					identifierType.getReturnedClass(),
+					incrementSize,
+					getInt( INITIAL_PARAM, parameters, -1 )
+			);
+		}
+		optimizer = stripeOptimizers[0];
+		// threads with the same identifier on different nodes should use different stripes
+		stripeOffset = ThreadLocalRandom.current().nextInt( segmentStripes );
 
 		contributor = parameters.getProperty( CONTRIBUTOR_NAME );
 		if ( contributor == null ) {
@@ -516,6 +575,16 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		return getInt( INCREMENT_PARAM, params, DEFAULT_INCREMENT_SIZE );
 	}
 
+	protected int determineSegmentStripes(Properties params, ServiceRegistry serviceRegistry) {
+		final int defaultStripes = serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( AvailableSettings.TABLE_GENERATOR_SEGMENT_STRIPES, StandardConverters.INTEGER, DEF_SEGMENT_STRIPES );
+		final int stripes = getInt( SEGMENT_STRIPES_PARAM, params, defaultStripes );
+		if ( stripes < 1 ) {
+			throw new MappingException( "Number of segment stripes must be positive: " + stripes );
+		}
+		return stripes;
+	}
+
 	protected String buildSelectQuery(String formattedPhysicalTableName, SqlStringGenerationContext context) {
 		final String alias = "tbl";
 		final String query = "select " + StringHelper.qualify( alias, valueColumnName )
@@ -544,9 +613,13 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		if ( storeLastUsedValue ) {
 			value = initialValue - 1;
 		}
-		return new InitCommand( "insert into " + renderedTableName
-				+ "(" + segmentColumnName + ", " + valueColumnName + ")"
-				+ " values ('" + segmentValue + "'," + ( value ) + ")" );
+		final String[] commands = new String[segmentStripes];
+		for ( int i = 0; i < segmentStripes; i++ ) {
+			commands[i] = "insert into " + renderedTableName
+					+ "(" + segmentColumnName + ", " + valueColumnName + ")"
+					+ " values ('" + stripeSegmentValues[i] + "'," + ( value ) + ")";
+		}
+		return new InitCommand( commands );
 	}
 
 	private IntegralDataTypeHolder makeValue() {
@@ -560,6 +633,28 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 				.getSqlStatementLogger();
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
 
+		if ( segmentStripes == 1 ) {
+			return generate( session, optimizer, segmentValue, statementLogger, statsCollector );
+		}
+		else {
+			final int stripe = Math.floorMod( Long.hashCode( Thread.currentThread().getId() ) + stripeOffset, segmentStripes );
+			final Object value = generate(
+					session,
+					stripeOptimizers[stripe],
+					stripeSegmentValues[stripe],
+					statementLogger,
+					statsCollector
+			);
+			return toStripedValue( (Number) value, stripe );
+		}
+	}
+
+	private Object generate(
+			SharedSessionContractImplementor session,
+			Optimizer optimizer,
+			String segmentValue,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) {
 		return optimizer.generate(
 				new AccessCallback() {
 					@Override
@@ -568,7 +663,13 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 								new AbstractReturningWork<>() {
 									@Override
 									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										return nextValue( connection, statementLogger, statsCollector );
+										return nextValue(
+												connection,
+												optimizer,
+												segmentValue,
+												statementLogger,
+												statsCollector
+										);
 									}
 								},
 								true
@@ -583,8 +684,24 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		);
 	}
 
+	/**
+	 * Map a value allocated from the given stripe to the set of identifiers
+	 * belonging to that stripe, which is disjoint from the sets of the other
+	 * stripes.
+	 */
+	private Object toStripedValue(Number value, int stripe) {
+		return makeValue()
+				.initialize( value.longValue() )
+				.subtract( initialValue )
+				.multiplyBy( segmentStripes )
+				.add( initialValue + stripe )
+				.makeValue();
+	}
+
 	private IntegralDataTypeHolder nextValue(
 			Connection connection,
+			Optimizer optimizer,
+			String segmentValue,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener)
 			throws SQLException {
@@ -15,21 +15,27 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.EventType;
 import org.hibernate.generator.EventTypeSets;
 import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.type.descriptor.java.UUIDJavaType;
 import org.hibernate.type.descriptor.java.UUIDJavaType.ValueTransformer;
 
 import static org.hibernate.annotations.UuidGenerator.Style.TIME;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
 import static org.hibernate.internal.util.ReflectHelper.getPropertyType;
 
 /**
  * Generates {@link UUID}s.
+ * <p>
+ * The values are generated in memory, so an HQL {@code insert ... select} statement
+ * for an entity with a generated UUID identifier assigns the identifiers row by row,
+ * after first inserting the selected rows into a temporary table.
  *
  * @see org.hibernate.annotations.UuidGenerator
  */
-public class UuidGenerator implements BeforeExecutionGenerator {
+public class UuidGenerator implements BeforeExecutionGenerator, BulkInsertionCapableIdentifierGenerator {
 	interface ValueGenerator {
 		UUID generateUuid(SharedSessionContractImplementor session);
 	}
@@ -43,6 +49,9 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 		if ( config.style() == TIME ) {
 			generator = new CustomVersionOneStrategy();
 		}
+		else if ( config.style() == VERSION_7 ) {
+			generator = UuidVersion7Strategy.INSTANCE;
+		}
 		else {
 			generator = StandardRandomStrategy.INSTANCE;
 		}
@@ -85,6 +94,14 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 		return INSERT_ONLY;
 	}
 
+	/**
+	 * @return {@code false}, since the values cannot be generated by a SQL expression
+	 */
+	@Override
+	public boolean supportsBulkInsertionIdentifierGeneration() {
+		return false;
+	}
+
 	@Override
 	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
 		return valueTransformer.transform( generator.generateUuid( session ) );
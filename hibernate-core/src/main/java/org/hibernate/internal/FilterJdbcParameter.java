@@ -18,13 +18,39 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A {@link JdbcParameter} for a parameter of an enabled {@linkplain org.hibernate.Filter filter}.
+ * <p>
+ * The value is looked up from the filter enabled in the executing session, so that a
+ * translation containing this parameter may be reused by other sessions which enable
+ * the same filter with different parameter values. The value captured at translation
+ * time is only used if the filter is not enabled in the executing session.
+ *
  * @author Nathan Xu
  */
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
+	private final String filterName;
+	private final String parameterName;
+	private final int valueIndex;
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( null, null, -1, jdbcMapping, jdbcParameterValue );
+	}
+
+	/**
+	 * @param valueIndex the index of the value within a multi-valued filter
+	 * parameter, or {@code -1} for a single-valued parameter
+	 */
+	public FilterJdbcParameter(
+			String filterName,
+			String parameterName,
+			int valueIndex,
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue) {
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.valueIndex = valueIndex;
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
 	}
@@ -38,13 +64,37 @@ public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( resolveValue( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object resolveValue(ExecutionContext executionContext) {
+		if ( filterName == null ) {
+			return jdbcParameterValue;
+		}
+		final FilterImpl filter = (FilterImpl) executionContext.getSession()
+				.getLoadQueryInfluencers()
+				.getEnabledFilter( filterName );
+		if ( filter == null ) {
+			return jdbcParameterValue;
+		}
+		final Object value = filter.getParameter( parameterName );
+		if ( valueIndex < 0 ) {
+			return value;
+		}
+		int index = 0;
+		for ( Object element : (Iterable<?>) value ) {
+			if ( index++ == valueIndex ) {
+				return element;
+			}
+		}
+		// the translation was made for a different number of values
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -32,6 +32,11 @@ public interface SessionCreationOptions {
 
 	boolean shouldAutoClear();
 
+	/**
+	 * @see org.hibernate.SessionBuilder#readOnly
+	 */
+	boolean isReadOnly();
+
 	Connection getConnection();
 
 	Interceptor getInterceptor();
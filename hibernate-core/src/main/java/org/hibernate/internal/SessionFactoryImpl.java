@@ -1185,6 +1185,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		private FlushMode flushMode;
 		private boolean autoClose;
 		private boolean autoClear;
+		private boolean readOnly;
 		private String tenantIdentifier;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
@@ -1244,6 +1245,11 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return autoClear;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -1344,6 +1350,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return this;
 		}
 
+		@Override
+		public SessionBuilderImpl readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
 		@Override
 		public SessionBuilderImpl tenantIdentifier(String tenantIdentifier) {
 			this.tenantIdentifier = tenantIdentifier;
@@ -1431,6 +1443,11 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return false;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return false;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -255,6 +255,15 @@ public class SessionImpl
 		// NOTE : pulse() already handles auto-join-ability correctly
 		getTransactionCoordinator().pulse();
 
+		if ( options.isReadOnly() ) {
+			persistenceContext.setDefaultReadOnly( true );
+			// a read-only session has nothing to flush, unless
+			// a flush mode was explicitly set
+			if ( getHibernateFlushMode() == null ) {
+				setHibernateFlushMode( FlushMode.MANUAL );
+			}
+		}
+
 		// do not override explicitly set flush mode ( SessionBuilder#flushMode() )
 		if ( getHibernateFlushMode() == null ) {
 			setHibernateFlushMode( getInitialFlushMode() );
@@ -2125,6 +2134,12 @@ public class SessionImpl
 			return this;
 		}
 
+		@Override
+		public SharedSessionBuilderImpl readOnly(boolean readOnly) {
+			super.readOnly( readOnly );
+			return this;
+		}
+
 		@Override
 		public SharedSessionBuilderImpl flushMode() {
 			flushMode( session.getHibernateFlushMode() );
@@ -6,7 +6,6 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -68,6 +67,7 @@ public abstract class AbstractNaturalIdLoader<T> implements NaturalIdLoader<T> {
 
 	private final NaturalIdMapping naturalIdMapping;
 	private final EntityMappingType entityDescriptor;
+	private final LoaderSelectCache resolveIdSelectCache = new LoaderSelectCache( 1 );
 
 	public AbstractNaturalIdLoader(
 			NaturalIdMapping naturalIdMapping,
@@ -84,6 +84,13 @@ public abstract class AbstractNaturalIdLoader<T> implements NaturalIdLoader<T> {
 		return naturalIdMapping;
 	}
 
+	/**
+	 * The cache of the select used by {@link #resolveIdToNaturalId}
+	 */
+	public LoaderSelectCache getResolveIdSelectCache() {
+		return resolveIdSelectCache;
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor();
@@ -296,23 +303,24 @@ public abstract class AbstractNaturalIdLoader<T> implements NaturalIdLoader<T> {
 	@Override
 	public Object resolveIdToNaturalId(Object id, SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-		final SelectStatement sqlSelect = LoaderSelectBuilder.createSelect(
+		final LoaderSelectCache.SelectCreator selectCreator = (keyCount, parameters) -> LoaderSelectBuilder.createSelect(
 				entityDescriptor(),
 				Collections.singletonList( naturalIdMapping() ),
 				entityDescriptor().getIdentifierMapping(),
 				null,
-				1,
-				session.getLoadQueryInfluencers(),
+				keyCount,
+				influencers,
 				LockOptions.NONE,
-				jdbcParameters::add,
+				parameters::add,
 				sessionFactory
 		);
-
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final LoaderSelectCache.CachedSelect select =
+				LoaderSelectCache.isCacheable( entityDescriptor(), LockOptions.NONE, influencers )
+						? resolveIdSelectCache.resolve( 1, selectCreator )
+						: LoaderSelectCache.uncached( 1, selectCreator );
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = jdbcParamBindings.registerParametersForEachJdbcValue(
@@ -322,8 +330,7 @@ public abstract class AbstractNaturalIdLoader<T> implements NaturalIdLoader<T> {
 				session
 		);
 		assert offset == jdbcParameters.size();
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlSelect )
-				.translate( jdbcParamBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParamBindings, sessionFactory );
 
 		final List<Object> results = session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelect,
@@ -10,7 +10,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.LockOptions;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,8 +21,6 @@ import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
-import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
@@ -38,8 +35,8 @@ import org.hibernate.sql.results.spi.ListResultsConsumer;
  */
 public class CollectionElementLoaderByIndex implements Loader {
 	private final PluralAttributeMapping attributeMapping;
-	private final SelectStatement sqlAst;
-	private final List<JdbcParameter> jdbcParameters;
+	private final LoaderSelectCache selectCache;
+	private final LoaderSelectCache.CachedSelect select;
 	private final int baseIndex;
 
 	private final int keyJdbcCount;
@@ -88,17 +85,20 @@ public class CollectionElementLoaderByIndex implements Loader {
 		List<ModelPart> partsToSelect = new ArrayList<>();
 		partsToSelect.add( attributeMapping.getElementDescriptor() );
 
-		this.jdbcParameters = new ArrayList<>( keyJdbcCount );
-		this.sqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				partsToSelect,
-				restrictedParts,
-				null,
+		this.selectCache = new LoaderSelectCache( 1 );
+		this.select = selectCache.resolve(
 				1,
-				influencers,
-				LockOptions.NONE,
-				jdbcParameters::add,
-				sessionFactory
+				(keyCount, jdbcParameters) -> LoaderSelectBuilder.createSelect(
+						attributeMapping,
+						partsToSelect,
+						restrictedParts,
+						null,
+						keyCount,
+						influencers,
+						LockOptions.NONE,
+						jdbcParameters::add,
+						sessionFactory
+				)
 		);
 	}
 
@@ -112,18 +112,21 @@ public class CollectionElementLoaderByIndex implements Loader {
 	}
 
 	public SelectStatement getSqlAst() {
-		return sqlAst;
+		return select.getSqlAst();
 	}
 
 	public List<JdbcParameter> getJdbcParameters() {
-		return jdbcParameters;
+		return select.getJdbcParameters();
+	}
+
+	public LoaderSelectCache getSelectCache() {
+		return selectCache;
 	}
 
 	public Object load(Object key, Object index, SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( keyJdbcCount );
 
@@ -141,8 +144,7 @@ public class CollectionElementLoaderByIndex implements Loader {
 				session
 		);
 		assert offset == jdbcParameters.size();
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, sessionFactory );
 
 		List<Object> list = jdbcServices.getJdbcSelectExecutor().list(
 				jdbcSelect,
@@ -6,13 +6,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
@@ -24,8 +22,6 @@ import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
-import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
@@ -50,8 +46,10 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final int keyJdbcCount;
 
-	private SelectStatement batchSizeSqlAst;
-	private List<JdbcParameter> batchSizeJdbcParameters;
+	private final LoadQueryInfluencers influencers;
+	private final LoaderSelectCache selectCache;
+	private final LoaderSelectCache.CachedSelect batchSizeSelect;
+	private volatile SingleIdLoadPlan<?> singleKeyLoadPlan;
 
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
@@ -63,20 +61,30 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
+		this.influencers = influencers;
+		this.selectCache = new LoaderSelectCache( batchSize );
+		this.batchSizeSelect = selectCache.resolve( batchSize, this::createSelect );
+	}
+
+	private SelectStatement createSelect(int keyCount, List<JdbcParameter> jdbcParameters) {
+		return LoaderSelectBuilder.createSelect(
 				attributeMapping,
+				// null here means to select everything
 				null,
 				attributeMapping.getKeyDescriptor(),
 				null,
-				batchSize,
+				keyCount,
 				influencers,
 				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
-				sessionFactory
+				jdbcParameters::add,
+				attributeMapping.getCollectionDescriptor().getFactory()
 		);
 	}
 
+	public LoaderSelectCache getSelectCache() {
+		return selectCache;
+	}
+
 	@Override
 	public PluralAttributeMapping getLoadable() {
 		return attributeMapping;
@@ -93,27 +101,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 
 		if ( numberOfIds == 1 ) {
-			final List<JdbcParameter> jdbcParameters = new ArrayList<>( keyJdbcCount );
-			final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-					attributeMapping,
-					null,
-					attributeMapping.getKeyDescriptor(),
-					null,
-					1,
-					session.getLoadQueryInfluencers(),
-					LockOptions.NONE,
-					jdbcParameters::add,
-					session.getFactory()
-			);
-
-			new SingleIdLoadPlan(
-					null,
-					attributeMapping.getKeyDescriptor(),
-					sqlAst,
-					jdbcParameters,
-					LockOptions.NONE,
-					session.getFactory()
-			).load( key, session );
+			resolveSingleKeyLoadPlan( session.getFactory() ).load( key, session );
 		}
 		else {
 			batchLoad( batchIds, numberOfIds , session );
@@ -123,6 +111,23 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	private SingleIdLoadPlan<?> resolveSingleKeyLoadPlan(SessionFactoryImplementor sessionFactory) {
+		SingleIdLoadPlan<?> loadPlan = singleKeyLoadPlan;
+		if ( loadPlan == null ) {
+			final LoaderSelectCache.CachedSelect select = selectCache.resolve( 1, this::createSelect );
+			loadPlan = new SingleIdLoadPlan<>(
+					null,
+					attributeMapping.getKeyDescriptor(),
+					select.getSqlAst(),
+					select.getJdbcParameters(),
+					LockOptions.NONE,
+					sessionFactory
+			);
+			singleKeyLoadPlan = loadPlan;
+		}
+		return loadPlan;
+	}
+
 	private void batchLoad(
 			Object[] batchIds,
 			int numberOfIds,
@@ -139,37 +144,14 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		int smallBatchLength = Math.min( numberOfIds, batchSize );
 
 		while ( true ) {
-			final List<JdbcParameter> jdbcParameters;
-			final SelectStatement sqlAst;
-
-			if ( smallBatchLength == batchSize ) {
-				jdbcParameters = this.batchSizeJdbcParameters;
-				sqlAst = this.batchSizeSqlAst;
-			}
-			else {
-				jdbcParameters = new ArrayList<>();
-				sqlAst = LoaderSelectBuilder.createSelect(
-						getLoadable(),
-						// null here means to select everything
-						null,
-						getLoadable().getKeyDescriptor(),
-						null,
-						numberOfIds,
-						session.getLoadQueryInfluencers(),
-						LockOptions.NONE,
-						jdbcParameters::add,
-						session.getFactory()
-				);
-			}
+			final LoaderSelectCache.CachedSelect select = smallBatchLength == batchSize
+					? batchSizeSelect
+					: selectCache.resolve( smallBatchLength, this::createSelect );
+			final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
+			final SelectStatement sqlAst = select.getSqlAst();
 
 			final SessionFactoryImplementor sessionFactory = session.getFactory();
 			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
-
-			final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-					.buildSelectTranslator( sessionFactory, sqlAst )
-					.translate( null, QueryOptions.NONE );
 
 			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( keyJdbcCount * smallBatchLength );
 
@@ -186,6 +168,8 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			}
 			assert offset == jdbcParameters.size();
 
+			final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, sessionFactory );
+
 			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 					session.getPersistenceContext().getBatchFetchQueue(),
 					sqlAst,
@@ -6,12 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
@@ -21,8 +19,6 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
-import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
@@ -43,8 +39,8 @@ public class CollectionLoaderSingleKey implements CollectionLoader {
 
 	private final int keyJdbcCount;
 
-	private final SelectStatement sqlAst;
-	private final List<JdbcParameter> jdbcParameters;
+	private final LoaderSelectCache selectCache;
+	private final LoaderSelectCache.CachedSelect select;
 
 	public CollectionLoaderSingleKey(
 			PluralAttributeMapping attributeMapping,
@@ -54,17 +50,20 @@ public class CollectionLoaderSingleKey implements CollectionLoader {
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.jdbcParameters = new ArrayList<>();
-		this.sqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
-				attributeMapping.getKeyDescriptor(),
-				null,
+		this.selectCache = new LoaderSelectCache( 1 );
+		this.select = selectCache.resolve(
 				1,
-				influencers,
-				LockOptions.NONE,
-				jdbcParameters::add,
-				sessionFactory
+				(keyCount, jdbcParameters) -> LoaderSelectBuilder.createSelect(
+						attributeMapping,
+						null,
+						attributeMapping.getKeyDescriptor(),
+						null,
+						keyCount,
+						influencers,
+						LockOptions.NONE,
+						jdbcParameters::add,
+						sessionFactory
+				)
 		);
 	}
 
@@ -78,11 +77,15 @@ public class CollectionLoaderSingleKey implements CollectionLoader {
 	}
 
 	public SelectStatement getSqlAst() {
-		return sqlAst;
+		return select.getSqlAst();
 	}
 
 	public List<JdbcParameter> getJdbcParameters() {
-		return jdbcParameters;
+		return select.getJdbcParameters();
+	}
+
+	public LoaderSelectCache getSelectCache() {
+		return selectCache;
 	}
 
 	@Override
@@ -91,8 +94,7 @@ public class CollectionLoaderSingleKey implements CollectionLoader {
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( keyJdbcCount );
 		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
@@ -103,13 +105,11 @@ public class CollectionLoaderSingleKey implements CollectionLoader {
 		);
 		assert offset == jdbcParameters.size();
 
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, sessionFactory );
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
-				sqlAst,
+				select.getSqlAst(),
 				jdbcParameters,
 				jdbcParameterBindings
 		);
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * Caches the SQL ASTs a loader creates for a varying number of keys, along with their
+ * translations, so that loading does not generate SQL once the cache is warm.
+ * <p>
+ * Lookups do not lock. When several threads miss at the same time, each of them
+ * creates the AST, and one of them is kept.
+ */
+public class LoaderSelectCache {
+
+	/**
+	 * Creates the SQL AST for a number of keys, collecting its parameters
+	 */
+	@FunctionalInterface
+	public interface SelectCreator {
+		SelectStatement createSelect(int keyCount, List<JdbcParameter> jdbcParameters);
+	}
+
+	private final AtomicReferenceArray<CachedSelect> selects;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * @param maxKeyCount the largest number of keys for which the select is cached
+	 */
+	public LoaderSelectCache(int maxKeyCount) {
+		this.selects = new AtomicReferenceArray<>( maxKeyCount + 1 );
+	}
+
+	/**
+	 * Whether the SQL AST of an entity load is the same whenever the given options
+	 * are in effect, and can be cached
+	 */
+	public static boolean isCacheable(
+			EntityMappingType entityDescriptor,
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		return lockOptions.isEmpty()
+				&& loadQueryInfluencers.getEnabledCascadingFetchProfile() == null
+				&& !entityDescriptor.isAffectedByEnabledFilters( loadQueryInfluencers )
+				&& !entityDescriptor.isAffectedByEntityGraph( loadQueryInfluencers )
+				&& !entityDescriptor.isAffectedByEnabledFetchProfiles( loadQueryInfluencers );
+	}
+
+	/**
+	 * The select for the given number of keys, created by the given creator
+	 * if it is not cached yet
+	 */
+	public CachedSelect resolve(int keyCount, SelectCreator creator) {
+		if ( keyCount >= selects.length() ) {
+			return create( keyCount, creator );
+		}
+		final CachedSelect existing = selects.get( keyCount );
+		if ( existing != null ) {
+			return existing;
+		}
+		final CachedSelect created = create( keyCount, creator );
+		return selects.compareAndSet( keyCount, null, created ) ? created : selects.get( keyCount );
+	}
+
+	/**
+	 * A select which is not kept by any cache, for loads which cannot be cached
+	 */
+	public static CachedSelect uncached(int keyCount, SelectCreator creator) {
+		return new CachedSelect( null, keyCount, creator );
+	}
+
+	private CachedSelect create(int keyCount, SelectCreator creator) {
+		return new CachedSelect( this, keyCount, creator );
+	}
+
+	/**
+	 * The number of loads which reused a translated select
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * The number of loads which translated a select
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * A SQL AST with its parameters, and its last translation
+	 */
+	public static final class CachedSelect {
+		private final LoaderSelectCache cache;
+		private final SelectStatement sqlAst;
+		private final List<JdbcParameter> jdbcParameters;
+		private volatile JdbcOperationQuerySelect jdbcSelect;
+
+		private CachedSelect(LoaderSelectCache cache, int keyCount, SelectCreator creator) {
+			this.cache = cache;
+			this.jdbcParameters = new ArrayList<>();
+			this.sqlAst = creator.createSelect( keyCount, jdbcParameters );
+		}
+
+		public SelectStatement getSqlAst() {
+			return sqlAst;
+		}
+
+		public List<JdbcParameter> getJdbcParameters() {
+			return jdbcParameters;
+		}
+
+		/**
+		 * The translation of the SQL AST for the given bindings, which is the last
+		 * translation if that one is compatible with the bindings
+		 */
+		public JdbcOperationQuerySelect getJdbcSelect(
+				JdbcParameterBindings jdbcParameterBindings,
+				SessionFactoryImplementor sessionFactory) {
+			final JdbcOperationQuerySelect existing = jdbcSelect;
+			if ( existing != null && existing.isCompatibleWith( jdbcParameterBindings, QueryOptions.NONE ) ) {
+				if ( cache != null ) {
+					cache.hitCount.incrementAndGet();
+				}
+				return existing;
+			}
+
+			final JdbcOperationQuerySelect translated = sessionFactory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildSelectTranslator( sessionFactory, sqlAst )
+					.translate( jdbcParameterBindings, QueryOptions.NONE );
+			if ( cache != null ) {
+				cache.missCount.incrementAndGet();
+				jdbcSelect = translated;
+			}
+			return translated;
+		}
+	}
+}
@@ -6,13 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
-import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -21,7 +18,6 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
@@ -43,6 +39,8 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 
 	private final int maxBatchSize;
 
+	private final LoaderSelectCache selectCache;
+
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
 	public SingleIdEntityLoaderDynamicBatch(
@@ -51,6 +49,11 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+		this.selectCache = new LoaderSelectCache( maxBatchSize );
+	}
+
+	public LoaderSelectCache getSelectCache() {
+		return selectCache;
 	}
 
 	@Override
@@ -90,25 +93,24 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+		final LoaderSelectCache.SelectCreator selectCreator = (keyCount, jdbcParameters) -> LoaderSelectBuilder.createSelect(
 				getLoadable(),
 				// null here means to select everything
 				null,
 				getLoadable().getIdentifierMapping(),
 				null,
-				numberOfIds,
+				keyCount,
 				session.getLoadQueryInfluencers(),
 				lockOptions,
 				jdbcParameters::add,
 				session.getFactory()
 		);
-
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final LoaderSelectCache.CachedSelect select =
+				LoaderSelectCache.isCacheable( getLoadable(), lockOptions, session.getLoadQueryInfluencers() )
+						? selectCache.resolve( numberOfIds, selectCreator )
+						: LoaderSelectCache.uncached( numberOfIds, selectCreator );
+		final SelectStatement sqlAst = select.getSqlAst();
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
 				getLoadable().getIdentifierMapping().getJdbcTypeCount()
@@ -126,9 +128,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		}
 		assert offset == jdbcParameters.size();
 
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, session.getFactory() );
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
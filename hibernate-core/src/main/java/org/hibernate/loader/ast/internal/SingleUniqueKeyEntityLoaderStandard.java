@@ -6,14 +6,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
-import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -23,9 +20,7 @@ import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
-import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
@@ -41,6 +36,9 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 	private final EntityMappingType entityDescriptor;
 	private final ModelPart uniqueKeyAttribute;
 
+	private final LoaderSelectCache selectCache = new LoaderSelectCache( 1 );
+	private final LoaderSelectCache resolveIdSelectCache = new LoaderSelectCache( 1 );
+
 	public SingleUniqueKeyEntityLoaderStandard(
 			EntityMappingType entityDescriptor,
 			SingularAttributeMapping uniqueKeyAttribute) {
@@ -58,6 +56,10 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 		return entityDescriptor;
 	}
 
+	public LoaderSelectCache getSelectCache() {
+		return selectCache;
+	}
+
 	@Override
 	public T load(
 			Object ukValue,
@@ -66,23 +68,21 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
-		// todo (6.0) : cache the SQL AST and JdbcParameters
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectByUniqueKey(
-				entityDescriptor,
-				Collections.emptyList(),
-				uniqueKeyAttribute,
-				null,
+		final LoaderSelectCache.CachedSelect select = selectCache.resolve(
 				1,
-				LoadQueryInfluencers.NONE,
-				LockOptions.NONE,
-				jdbcParameters::add,
-				sessionFactory
+				(keyCount, jdbcParameters) -> LoaderSelectBuilder.createSelectByUniqueKey(
+						entityDescriptor,
+						Collections.emptyList(),
+						uniqueKeyAttribute,
+						null,
+						keyCount,
+						LoadQueryInfluencers.NONE,
+						LockOptions.NONE,
+						jdbcParameters::add,
+						sessionFactory
+				)
 		);
-
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
@@ -92,8 +92,7 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 				session
 		);
 		assert offset == jdbcParameters.size();
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, sessionFactory );
 
 		final List<Object> list = sessionFactory.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelect,
@@ -122,23 +121,21 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 	public Object resolveId(Object ukValue, SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
-		// todo (6.0) : cache the SQL AST and JdbcParameters
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectByUniqueKey(
-				entityDescriptor,
-				Collections.singletonList( entityDescriptor.getIdentifierMapping() ),
-				uniqueKeyAttribute,
-				null,
+		final LoaderSelectCache.CachedSelect select = resolveIdSelectCache.resolve(
 				1,
-				LoadQueryInfluencers.NONE,
-				LockOptions.NONE,
-				jdbcParameters::add,
-				sessionFactory
+				(keyCount, jdbcParameters) -> LoaderSelectBuilder.createSelectByUniqueKey(
+						entityDescriptor,
+						Collections.singletonList( entityDescriptor.getIdentifierMapping() ),
+						uniqueKeyAttribute,
+						null,
+						keyCount,
+						LoadQueryInfluencers.NONE,
+						LockOptions.NONE,
+						jdbcParameters::add,
+						sessionFactory
+				)
 		);
-
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final List<JdbcParameter> jdbcParameters = select.getJdbcParameters();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
@@ -148,8 +145,7 @@ public class SingleUniqueKeyEntityLoaderStandard<T> implements SingleUniqueKeyEn
 				session
 		);
 		assert offset == jdbcParameters.size();
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = select.getJdbcSelect( jdbcParameterBindings, sessionFactory );
 
 		final List<Object> list = sessionFactory.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelect,
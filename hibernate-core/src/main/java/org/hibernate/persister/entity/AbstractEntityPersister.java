@@ -198,6 +198,7 @@ import org.hibernate.persister.entity.mutation.DeleteCoordinator;
 import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.persister.entity.mutation.EntityTableMapping;
 import org.hibernate.persister.entity.mutation.InsertCoordinator;
+import org.hibernate.persister.entity.mutation.MergeCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorNoOp;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
@@ -382,6 +383,7 @@ public abstract class AbstractEntityPersister
 	private EntityTableMapping[] tableMappings;
 	private InsertCoordinator insertCoordinator;
 	private UpdateCoordinator updateCoordinator;
+	private MergeCoordinator mergeCoordinator;
 	private DeleteCoordinator deleteCoordinator;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
@@ -956,6 +958,11 @@ public abstract class AbstractEntityPersister
 		return updateCoordinator;
 	}
 
+	@Override
+	public MergeCoordinator getMergeCoordinator() {
+		return mergeCoordinator;
+	}
+
 	@Internal
 	public DeleteCoordinator getDeleteCoordinator() {
 		return deleteCoordinator;
@@ -3080,6 +3087,7 @@ public abstract class AbstractEntityPersister
 		tableMappings = buildTableMappings();
 		insertCoordinator = buildInsertCoordinator();
 		updateCoordinator = buildUpdateCoordinator();
+		mergeCoordinator = buildMergeCoordinator();
 		deleteCoordinator = buildDeleteCoordinator();
 
 		final int joinSpan = getTableSpan();
@@ -3309,6 +3317,47 @@ public abstract class AbstractEntityPersister
 		return new UpdateCoordinatorNoOp( this );
 	}
 
+	/**
+	 * Build the coordinator for {@linkplain #getMergeCoordinator upserts}, if they are enabled
+	 * and supported for this entity.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+	 */
+	protected MergeCoordinator buildMergeCoordinator() {
+		if ( !factory.getSessionFactoryOptions().isMergeDetachedUsingUpsertEnabled()
+				|| !( updateCoordinator instanceof UpdateCoordinatorStandard ) ) {
+			return null;
+		}
+
+		// the upsert writes every row of the entity using just the
+		// state of the entity itself, so rule out anything which
+		// needs to know the state of the database, or to be notified
+		// of the insert or update
+		if ( isInherited()
+				|| entityMetamodel.hasSubclasses()
+				|| !isMutable()
+				|| canWriteToCache()
+				|| hasRowId()
+				|| hasOwnedCollections()
+				|| hasInsertGeneratedProperties()
+				|| hasUpdateGeneratedProperties()
+				|| isVersionPropertyGenerated()
+				|| optimisticLockStyle().isAllOrDirty()
+				|| !Arrays.equals( getPropertyInsertability(), getPropertyUpdateability() ) ) {
+			return null;
+		}
+		for ( EntityTableMapping tableMapping : tableMappings ) {
+			if ( tableMapping.getInsertCustomSql() != null
+					|| tableMapping.getUpdateCustomSql() != null
+					|| tableMapping.getDeleteCustomSql() != null ) {
+				return null;
+			}
+		}
+
+		final MergeCoordinator mergeCoordinator = new MergeCoordinator( this, factory );
+		return mergeCoordinator.isVersionCheckedByUpsert() ? mergeCoordinator : null;
+	}
+
 	protected DeleteCoordinator buildDeleteCoordinator() {
 		return new DeleteCoordinator( this, factory );
 	}
@@ -4649,6 +4698,11 @@ public abstract class AbstractEntityPersister
 				final Optimizer optimizer = ( (OptimizableGenerator) getGenerator() ).getOptimizer();
 				needsMultiTableInsert = optimizer != null && optimizer.getIncrementSize() > 1;
 			}
+			else {
+				// the identifiers are generated in memory, one row at a time
+				needsMultiTableInsert = !( (BulkInsertionCapableIdentifierGenerator) getGenerator() )
+						.supportsBulkInsertionIdentifierGeneration();
+			}
 		}
 
 		if ( needsMultiTableInsert ) {
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
@@ -42,6 +43,7 @@ import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.internal.InFlightEntityMappingType;
 import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
+import org.hibernate.persister.entity.mutation.UpdateCoordinator;
 import org.hibernate.persister.walking.spi.AttributeSource;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
@@ -618,6 +620,21 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * The coordinator for upserting instances of this entity, that is, for inserting
+	 * or updating them without knowing whether they already exist in the database,
+	 * or {@code null} if upserts are not supported for this entity. If the entity is
+	 * versioned, the update of an existing instance is subject to a version check.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default UpdateCoordinator getMergeCoordinator() {
+		return null;
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
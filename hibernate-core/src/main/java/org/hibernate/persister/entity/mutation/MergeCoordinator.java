@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.persister.entity.mutation;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.ast.builder.AbstractTableUpdateBuilder;
+import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
+import org.hibernate.sql.model.jdbc.OptionalTableUpdateOperation;
+
+/**
+ * Specialized {@link UpdateCoordinator} for upserting an entity, that is, for
+ * inserting or updating its rows without knowing whether they already exist.
+ * <p>
+ * Each table is written using an {@link org.hibernate.sql.model.internal.OptionalTableUpdate},
+ * which the {@linkplain org.hibernate.dialect.Dialect#createOptionalTableUpdateOperation
+ * dialect} renders as a {@code merge} statement, or its equivalent, where supported.
+ * Any optimistic lock restriction is applied to the update of an existing row.
+ * Versioned entities are only upserted if the dialect applies the version check
+ * within that statement, see {@link #isVersionCheckedByUpsert()}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT
+ */
+public class MergeCoordinator extends UpdateCoordinatorStandard {
+	private final BatchKey batchKey;
+
+	public MergeCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
+		super( entityPersister, factory );
+		this.batchKey = entityPersister.hasUpdateGeneratedProperties()
+				? null
+				: new BasicBatchKey( entityPersister.getEntityName() + "#MERGE", null );
+	}
+
+	@Override
+	protected <O extends MutationOperation> AbstractTableUpdateBuilder<O> newTableUpdateBuilder(EntityTableMapping tableMapping) {
+		return new TableMergeBuilder<>( entityPersister(), tableMapping, factory() );
+	}
+
+	/**
+	 * Whether the statements of this coordinator apply the version check, if any,
+	 * themselves. This is not the case for a dialect without support for {@code merge},
+	 * or its equivalent, where each row is written by an update followed by an insert
+	 * if no row was updated. There, an update which fails the version check cannot be
+	 * told apart from a missing row, so the insert would violate the primary key
+	 * instead of raising a {@link org.hibernate.StaleObjectStateException}.
+	 */
+	public boolean isVersionCheckedByUpsert() {
+		if ( !entityPersister().isVersioned() ) {
+			return true;
+		}
+		final MutationOperationGroup staticUpdateGroup = getStaticUpdateGroup();
+		return staticUpdateGroup != null
+				&& !staticUpdateGroup.hasMatching( (position, operation) -> operation instanceof OptionalTableUpdateOperation );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
+	}
+
+	@Override
+	public String toString() {
+		return "MergeCoordinator(" + entityPersister().getEntityName() + ")";
+	}
+}
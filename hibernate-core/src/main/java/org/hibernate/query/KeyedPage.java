@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A page of query results for key-based pagination, that is, pagination by the
+ * values of the items of the {@code order by} clause of the query rather than
+ * by an offset. A page other than the {@linkplain #first first} one is identified
+ * by the key of the last result of the previous page, which makes the cost of
+ * reading a page independent of how deep the page is.
+ * <p>
+ * A {@code KeyedPage} is a cursor which can be kept, or serialized, between the
+ * requests for successive pages.
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ * @see KeyedResultList#getNextPage()
+ *
+ * @since 6.3
+ */
+@Incubating
+public final class KeyedPage<R> implements Serializable {
+	private final int size;
+	private final List<Object> key;
+
+	private KeyedPage(int size, List<Object> key) {
+		if ( size < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive" );
+		}
+		this.size = size;
+		this.key = key;
+	}
+
+	/**
+	 * The first page of the given size
+	 */
+	public static <R> KeyedPage<R> first(int size) {
+		return new KeyedPage<>( size, null );
+	}
+
+	/**
+	 * The page of the given size following the result with the given key
+	 *
+	 * @param key the values of the {@code order by} items for the last result of the previous page
+	 */
+	public static <R> KeyedPage<R> after(List<?> key, int size) {
+		if ( key == null || key.isEmpty() ) {
+			throw new IllegalArgumentException( "Key must not be empty" );
+		}
+		return new KeyedPage<>( size, Collections.unmodifiableList( new ArrayList<>( key ) ) );
+	}
+
+	/**
+	 * The maximum number of results of this page
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The values of the {@code order by} items for the last result of the previous page,
+	 * or {@code null} for the first page
+	 */
+	public List<Object> getKey() {
+		return key;
+	}
+
+	/**
+	 * Is this the first page?
+	 */
+	public boolean isFirst() {
+		return key == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeyedPage(" + size + ", " + key + ")";
+	}
+}
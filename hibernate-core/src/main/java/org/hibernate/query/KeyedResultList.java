@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a {@linkplain KeyedPage page} of a query with key-based pagination,
+ * along with the page which follows it.
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ *
+ * @since 6.3
+ */
+@Incubating
+public final class KeyedResultList<R> {
+	private final List<R> resultList;
+	private final KeyedPage<R> page;
+	private final KeyedPage<R> nextPage;
+
+	public KeyedResultList(List<R> resultList, KeyedPage<R> page, KeyedPage<R> nextPage) {
+		this.resultList = resultList;
+		this.page = page;
+		this.nextPage = nextPage;
+	}
+
+	/**
+	 * The results of the page
+	 */
+	public List<R> getResultList() {
+		return resultList;
+	}
+
+	/**
+	 * The page these results belong to
+	 */
+	public KeyedPage<R> getPage() {
+		return page;
+	}
+
+	/**
+	 * The page following this one, or {@code null} if this is the last page
+	 */
+	public KeyedPage<R> getNextPage() {
+		return nextPage;
+	}
+
+	/**
+	 * Is this the last page?
+	 */
+	public boolean isLastPage() {
+		return nextPage == null;
+	}
+}
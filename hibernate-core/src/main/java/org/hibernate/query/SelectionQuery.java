@@ -143,6 +143,42 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return getResultStream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream}
+	 * which reads the results in chunks of the given size. Before the next
+	 * chunk is read, every entity which became managed while the previous
+	 * chunk was read and processed is detached from the session, together
+	 * with its collections, so that the persistence context does not grow
+	 * with the number of results. This includes the associated entities
+	 * fetched with the results or loaded lazily. Entities which were already
+	 * managed by the session before the chunk was read are not detached. The
+	 * entities of the last chunk are detached once the stream is exhausted.
+	 * <p>
+	 * A chunk is read entirely before its first result is returned, so that
+	 * lazy associations of the entities of a chunk are batch fetched together,
+	 * if {@linkplain org.hibernate.cfg.AvailableSettings#DEFAULT_BATCH_FETCH_SIZE
+	 * batch fetching} is enabled. Changes made to an entity of a chunk, and
+	 * entities persisted while a chunk is processed, are lost once they are
+	 * detached, unless the session is flushed before.
+	 * <p>
+	 * If no fetch size is {@linkplain #setFetchSize(int) set for the query}, and
+	 * no {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE
+	 * default fetch size} is configured, the chunk size is used as fetch size of
+	 * the underlying {@link java.sql.ResultSet}. The fetch size of the query
+	 * itself is not changed.
+	 * <p>
+	 * The client should call {@link Stream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @param chunkSize The number of results read at once
+	 *
+	 * @return The results as a {@link Stream}
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	Stream<R> getResultStream(int chunkSize);
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -294,6 +330,30 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	SelectionQuery<R> setFirstResult(int startPosition);
 
+	/**
+	 * Execute the query and return the given {@linkplain KeyedPage page} of results,
+	 * using key-based pagination. Instead of skipping the results of the previous
+	 * pages with an offset, the query is restricted to the results which follow the
+	 * {@linkplain KeyedPage#getKey() key} of the last result of the previous page,
+	 * according to the {@code order by} clause of the query.
+	 * <p>
+	 * The query must have a single select item and an {@code order by} clause whose
+	 * items determine a unique, non-null key for every result, for example by ending
+	 * with the identifier of the queried entity. The {@linkplain #setFirstResult first
+	 * result} and {@linkplain #setMaxResults max results} of this query are ignored.
+	 *
+	 * @param page the page of results to return
+	 *
+	 * @return the results of the page along with the page which follows it
+	 *
+	 * @throws UnsupportedOperationException if this query is not an HQL or criteria query
+	 * @throws IllegalArgumentException if this query cannot be paginated by key
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
+
 	/**
 	 * Obtain the {@link CacheMode} in effect for this query. By default,
 	 * the query inherits the {@link CacheMode} of the session from which
@@ -295,6 +295,20 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 		return new SemanticQueryBuilder<>( expectedResultType, creationOptions, creationContext ).visitStatement( hqlParseTree );
 	}
 
+	/**
+	 * Entry point for queries recognized by {@link SimpleQueryRecognizer}, producing
+	 * the same semantic model as the parse tree of the query would.
+	 *
+	 * @return the semantic model, or {@code null} if the query must be parsed
+	 */
+	public static <R> SqmSelectStatement<R> buildSemanticModel(
+			SimpleQueryRecognizer.SimpleQuery simpleQuery,
+			Class<R> expectedResultType,
+			SqmCreationOptions creationOptions,
+			SqmCreationContext creationContext) {
+		return new SemanticQueryBuilder<>( expectedResultType, creationOptions, creationContext ).visitSimpleQuery( simpleQuery );
+	}
+
 	private final Class<R> expectedResultType;
 	private final SqmCreationOptions creationOptions;
 	private final SqmCreationContext creationContext;
@@ -424,6 +438,101 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 		return selectStatement;
 	}
 
+	private SqmSelectStatement<R> visitSimpleQuery(SimpleQueryRecognizer.SimpleQuery simpleQuery) {
+		for ( SimpleQueryRecognizer.Restriction restriction : simpleQuery.getRestrictions() ) {
+			// the parse tree might turn out to be an enum literal
+			if ( creationContext.getJpaMetamodel().getAllowedEnumLiteralTexts()
+					.containsKey( String.join( ".", restriction.getPath() ) ) ) {
+				return null;
+			}
+		}
+
+		final SqmSelectStatement<R> selectStatement = new SqmSelectStatement<>( creationContext.getNodeBuilder() );
+
+		parameterCollector = selectStatement;
+		parameterDeclarationContextStack.push( () -> false );
+		processingStateStack.push(
+				new SqmQueryPartCreationProcessingStateStandardImpl(
+						processingStateStack.getCurrent(),
+						selectStatement,
+						this
+				)
+		);
+
+		try {
+			final SqmQuerySpec<?> sqmQuerySpec = currentQuerySpec();
+
+			final SqmFromClause fromClause = new SqmFromClause( 1 );
+			sqmQuerySpec.setFromClause( fromClause );
+			fromClause.addRoot( simpleRoot( simpleQuery.getEntityName(), simpleQuery.getAlias() ) );
+
+			final SqmSelectClause selectClause;
+			if ( simpleQuery.isSelectingAlias() ) {
+				selectClause = new SqmSelectClause( false, creationContext.getNodeBuilder() );
+				final SqmSelection<?> selection = new SqmSelection<>(
+						consumeSimplePath( new String[] { simpleQuery.getAlias() } ),
+						null,
+						creationContext.getNodeBuilder()
+				);
+				getCurrentProcessingState().getPathRegistry().register( selection );
+				selectClause.addSelection( selection );
+			}
+			else {
+				selectClause = buildInferredSelectClause( fromClause );
+			}
+			sqmQuerySpec.setSelectClause( selectClause );
+
+			final SqmWhereClause whereClause = new SqmWhereClause( creationContext.getNodeBuilder() );
+			SqmPredicate predicate = null;
+			for ( SimpleQueryRecognizer.Restriction restriction : simpleQuery.getRestrictions() ) {
+				final SqmExpression<?> left = consumeSimplePath( restriction.getPath() );
+				final SqmExpression<?> right = namedParameter( restriction.getParameterName(), null );
+				( (SqmCriteriaNodeBuilder) creationContext.getNodeBuilder() ).assertComparable( left, right );
+				final SqmPredicate comparison = new SqmComparisonPredicate(
+						left,
+						ComparisonOperator.EQUAL,
+						right,
+						creationContext.getNodeBuilder()
+				);
+				predicate = predicate == null ? comparison : junction( Predicate.BooleanOperator.AND, predicate, comparison );
+			}
+			whereClause.setPredicate( predicate );
+			sqmQuerySpec.setWhereClause( whereClause );
+		}
+		finally {
+			processingStateStack.pop();
+			parameterDeclarationContextStack.pop();
+		}
+
+		selectStatement.getQueryPart().validateQueryStructureAndFetchOwners();
+		return selectStatement;
+	}
+
+	@SuppressWarnings( { "rawtypes", "unchecked" } )
+	private SqmRoot<?> simpleRoot(String entityName, String alias) {
+		final EntityDomainType entityDescriptor = getCreationContext()
+				.getJpaMetamodel()
+				.getHqlEntityReference( entityName );
+		if ( entityDescriptor == null ) {
+			throw new UnknownEntityException( "Could not resolve root entity '" + entityName + "'", entityName );
+		}
+		final SqmRoot<?> sqmRoot = new SqmRoot<>( entityDescriptor, alias, true, creationContext.getNodeBuilder() );
+		processingStateStack.getCurrent().getPathRegistry().register( sqmRoot );
+		return sqmRoot;
+	}
+
+	private SqmExpression<?> consumeSimplePath(String[] path) {
+		final DotIdentifierConsumer dotIdentifierConsumer = dotIdentifierConsumerStack.getCurrent();
+		for ( int i = 0; i < path.length; i++ ) {
+			dotIdentifierConsumer.consumeIdentifier( path[i], i == 0, i == path.length - 1 );
+		}
+		final SemanticPathPart part = dotIdentifierConsumer.getConsumedPart();
+		if ( part instanceof DomainPathPart ) {
+			return ( (DomainPathPart) part ).getSqmExpression();
+		}
+		return (SqmExpression<?>) part;
+	}
+
 	@Override
 	public SqmRoot<R> visitTargetEntity(HqlParser.TargetEntityContext dmlTargetContext) {
 		final HqlParser.EntityNameContext entityNameContext = (HqlParser.EntityNameContext) dmlTargetContext.getChild( 0 );
@@ -3805,9 +3914,13 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 	private <T> SqmNamedParameter<T> visitNamedParameter(
 			HqlParser.NamedParameterContext ctx,
 			SqmExpressible<T> expressibleType) {
+		return namedParameter( ctx.getChild( 1 ).getText(), expressibleType );
+	}
+
+	private <T> SqmNamedParameter<T> namedParameter(String name, SqmExpressible<T> expressibleType) {
 		parameterStyle = parameterStyle.withNamed();
 		final SqmNamedParameter<T> param = new SqmNamedParameter<>(
-				ctx.getChild( 1 ).getText(),
+				name,
 				parameterDeclarationContextStack.getCurrent().isMultiValuedBindingAllowed(),
 				expressibleType,
 				creationContext.getNodeBuilder()
@@ -0,0 +1,304 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Recognizes a very restricted subset of HQL without the ANTLR-generated parser:
+ * <pre>
+ * [select alias] from EntityName [[as] alias] [where alias.path = :param [and alias.path = :param]*]
+ * </pre>
+ * The semantic model of a recognized query is built by
+ * {@link SemanticQueryBuilder#buildSemanticModel(SimpleQuery, Class, org.hibernate.query.hql.spi.SqmCreationOptions, org.hibernate.query.sqm.spi.SqmCreationContext)}.
+ * Anything else, including quoted identifiers, comments, literals and any reserved
+ * word used as an identification variable, is left to the parser.
+ */
+public final class SimpleQueryRecognizer {
+
+	/**
+	 * Words which are never accepted as entity names or identification variables,
+	 * or as the last element of a path, since the parser might give them another
+	 * meaning.
+	 */
+	private static final Set<String> RESERVED = Set.of(
+			"all", "and", "any", "as", "asc", "between", "by", "case", "class", "cross", "delete", "desc",
+			"distinct", "element", "elements", "else", "end", "entry", "escape", "except", "exists", "false",
+			"fetch", "from", "full", "group", "having", "ilike", "in", "index", "indices", "inner", "insert",
+			"intersect", "is", "join", "key", "left", "like", "limit", "member", "new", "not", "null",
+			"of", "offset", "on", "or", "order", "outer", "right", "select", "set", "size", "some", "then",
+			"treat", "true", "union", "update", "value", "when", "where", "with"
+	);
+
+	private SimpleQueryRecognizer() {
+	}
+
+	/**
+	 * A restriction of the form {@code alias.path = :param}
+	 */
+	public static final class Restriction {
+		private final String[] path;
+		private final String parameterName;
+
+		private Restriction(String[] path, String parameterName) {
+			this.path = path;
+			this.parameterName = parameterName;
+		}
+
+		/**
+		 * The path, starting with the identification variable of the root
+		 */
+		public String[] getPath() {
+			return path;
+		}
+
+		public String getParameterName() {
+			return parameterName;
+		}
+	}
+
+	/**
+	 * A recognized query
+	 */
+	public static final class SimpleQuery {
+		private final String entityName;
+		private final String alias;
+		private final boolean selectingAlias;
+		private final List<Restriction> restrictions;
+
+		private SimpleQuery(String entityName, String alias, boolean selectingAlias, List<Restriction> restrictions) {
+			this.entityName = entityName;
+			this.alias = alias;
+			this.selectingAlias = selectingAlias;
+			this.restrictions = restrictions;
+		}
+
+		public String getEntityName() {
+			return entityName;
+		}
+
+		/**
+		 * The identification variable of the root, or {@code null}
+		 */
+		public String getAlias() {
+			return alias;
+		}
+
+		/**
+		 * Whether the query has an explicit select clause, selecting the root
+		 */
+		public boolean isSelectingAlias() {
+			return selectingAlias;
+		}
+
+		public List<Restriction> getRestrictions() {
+			return restrictions;
+		}
+	}
+
+	/**
+	 * Recognize the given query
+	 *
+	 * @return the recognized query, or {@code null} if the query must be parsed
+	 */
+	public static SimpleQuery recognize(String hql) {
+		final List<String> tokens = tokenize( hql );
+		return tokens == null ? null : new TokenReader( tokens ).query();
+	}
+
+	private static List<String> tokenize(String hql) {
+		final List<String> tokens = new ArrayList<>();
+		final int length = hql.length();
+		int i = 0;
+		while ( i < length ) {
+			final char c = hql.charAt( i );
+			if ( c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' ) {
+				i++;
+			}
+			else if ( c == '.' || c == '=' || c == ':' ) {
+				tokens.add( String.valueOf( c ) );
+				i++;
+			}
+			else if ( isLetter( c ) ) {
+				final int start = i++;
+				while ( i < length && ( isLetter( hql.charAt( i ) ) || isDigit( hql.charAt( i ) ) ) ) {
+					i++;
+				}
+				tokens.add( hql.substring( start, i ) );
+			}
+			else {
+				return null;
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Matches the {@code LETTER} fragment of the HQL lexer
+	 */
+	private static boolean isLetter(char c) {
+		return c >= 'a' && c <= 'z'
+				|| c >= 'A' && c <= 'Z'
+				|| c >= '\u0080' && c <= '\ufffe'
+				|| c == '_'
+				|| c == '$';
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static final class TokenReader {
+		private final List<String> tokens;
+		private int position;
+
+		private TokenReader(List<String> tokens) {
+			this.tokens = tokens;
+		}
+
+		private SimpleQuery query() {
+			String selection = null;
+			if ( keyword( "select" ) ) {
+				selection = variable();
+				if ( selection == null ) {
+					return null;
+				}
+			}
+
+			if ( !keyword( "from" ) ) {
+				return null;
+			}
+			final StringBuilder entityName = new StringBuilder();
+			do {
+				final String part = variable();
+				if ( part == null ) {
+					return null;
+				}
+				if ( entityName.length() > 0 ) {
+					entityName.append( '.' );
+				}
+				entityName.append( part );
+			} while ( symbol( '.' ) );
+
+			final String alias;
+			if ( keyword( "as" ) ) {
+				alias = variable();
+				if ( alias == null ) {
+					return null;
+				}
+			}
+			else if ( position < tokens.size() && !isKeyword( tokens.get( position ), "where" ) ) {
+				alias = variable();
+				if ( alias == null ) {
+					return null;
+				}
+			}
+			else {
+				alias = null;
+			}
+
+			if ( selection != null && !selection.equals( alias ) ) {
+				return null;
+			}
+
+			List<Restriction> restrictions = Collections.emptyList();
+			if ( keyword( "where" ) ) {
+				if ( alias == null ) {
+					return null;
+				}
+				restrictions = new ArrayList<>();
+				do {
+					final Restriction restriction = restriction( alias );
+					if ( restriction == null ) {
+						return null;
+					}
+					restrictions.add( restriction );
+				} while ( keyword( "and" ) );
+			}
+
+			if ( position != tokens.size() ) {
+				return null;
+			}
+			return new SimpleQuery( entityName.toString(), alias, selection != null, restrictions );
+		}
+
+		private Restriction restriction(String alias) {
+			final String base = variable();
+			if ( !alias.equals( base ) || !symbol( '.' ) ) {
+				return null;
+			}
+			final List<String> path = new ArrayList<>();
+			path.add( base );
+			do {
+				final String attribute = identifier();
+				if ( attribute == null ) {
+					return null;
+				}
+				path.add( attribute );
+			} while ( symbol( '.' ) );
+			if ( isReserved( path.get( path.size() - 1 ) ) ) {
+				return null;
+			}
+
+			if ( !symbol( '=' ) || !symbol( ':' ) ) {
+				return null;
+			}
+			final String parameterName = identifier();
+			if ( parameterName == null ) {
+				return null;
+			}
+			return new Restriction( path.toArray( new String[0] ), parameterName );
+		}
+
+		private boolean keyword(String keyword) {
+			if ( position < tokens.size() && isKeyword( tokens.get( position ), keyword ) ) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private boolean symbol(char symbol) {
+			if ( position < tokens.size() ) {
+				final String token = tokens.get( position );
+				if ( token.length() == 1 && token.charAt( 0 ) == symbol ) {
+					position++;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private String identifier() {
+			if ( position < tokens.size() ) {
+				final String token = tokens.get( position );
+				if ( isLetter( token.charAt( 0 ) ) ) {
+					position++;
+					return token;
+				}
+			}
+			return null;
+		}
+
+		private String variable() {
+			final String identifier = identifier();
+			return identifier == null || isReserved( identifier ) ? null : identifier;
+		}
+
+		private static boolean isKeyword(String token, String keyword) {
+			return token.equalsIgnoreCase( keyword );
+		}
+
+		private static boolean isReserved(String identifier) {
+			return RESERVED.contains( identifier.toLowerCase( Locale.ROOT ) );
+		}
+	}
+}
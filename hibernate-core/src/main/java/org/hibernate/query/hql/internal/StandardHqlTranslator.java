@@ -74,6 +74,11 @@ public class StandardHqlTranslator implements HqlTranslator {
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
 		HqlLogging.QUERY_LOGGER.debugf( "HQL : " + query );
 
+		final SqmStatement<R> simpleStatement = translateSimpleQuery( query, expectedResultType );
+		if ( simpleStatement != null ) {
+			return simpleStatement;
+		}
+
 		final HqlParser.StatementContext hqlParseTree = parseHql( query );
 
 		// then we perform semantic analysis and build the semantic representation...
@@ -98,6 +103,37 @@ public class StandardHqlTranslator implements HqlTranslator {
 		}
 	}
 
+	/**
+	 * Build the semantic model of a query in the subset of HQL recognized by
+	 * {@link SimpleQueryRecognizer}, skipping the parser. Any problem with the
+	 * query is reported by the parser, since this returns {@code null}.
+	 */
+	private <R> SqmStatement<R> translateSimpleQuery(String query, Class<R> expectedResultType) {
+		if ( sqmCreationOptions.useStrictJpaCompliance() ) {
+			return null;
+		}
+		final SimpleQueryRecognizer.SimpleQuery simpleQuery = SimpleQueryRecognizer.recognize( query );
+		if ( simpleQuery == null ) {
+			return null;
+		}
+		try {
+			final SqmStatement<R> sqmStatement = SemanticQueryBuilder.buildSemanticModel(
+					simpleQuery,
+					expectedResultType,
+					sqmCreationOptions,
+					sqmCreationContext
+			);
+			if ( sqmStatement != null ) {
+				SqmTreePrinter.logTree( sqmStatement );
+			}
+			return sqmStatement;
+		}
+		catch (RuntimeException e) {
+			HqlLogging.QUERY_LOGGER.debugf( "Falling back to the parser for query `%s`: %s", query, e.getMessage() );
+			return null;
+		}
+	}
+
 	private HqlParser.StatementContext parseHql(String hql) {
 		// Build the lexer
 		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
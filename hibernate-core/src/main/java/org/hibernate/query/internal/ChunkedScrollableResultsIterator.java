@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link CloseableIterator} over {@link ScrollableResultsImplementor} which reads
+ * the results in chunks. Before the next chunk is read, it detaches every entity
+ * which became managed while the previous chunk was read and processed, including
+ * associated entities, together with their collections. Entities which were already
+ * managed by the session when a chunk was read are left managed.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultStream(int)
+ *
+ * @since 6.3
+ */
+@Incubating
+public class ChunkedScrollableResultsIterator<T> implements CloseableIterator<T> {
+	private final ScrollableResultsImplementor<T> scrollableResults;
+	private final SharedSessionContractImplementor session;
+	private final Object[] chunk;
+	private final IdentitySet<Object> managedBeforeChunk = new IdentitySet<>();
+
+	private int size;
+	private int position;
+
+	public ChunkedScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			int chunkSize,
+			SharedSessionContractImplementor session) {
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		this.chunk = new Object[chunkSize];
+	}
+
+	@Override
+	public void close() {
+		scrollableResults.close();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( position < size ) {
+			return true;
+		}
+		detachChunk();
+		rememberManagedEntities();
+		while ( size < chunk.length && !scrollableResults.isClosed() && scrollableResults.next() ) {
+			chunk[size++] = scrollableResults.get();
+		}
+		return size > 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return (T) chunk[position++];
+	}
+
+	private void rememberManagedEntities() {
+		managedBeforeChunk.clear();
+		if ( session.isSessionImplementor() && !session.isClosed() ) {
+			final Iterator<Object> entities = session.getPersistenceContextInternal().managedEntitiesIterator();
+			while ( entities.hasNext() ) {
+				managedBeforeChunk.add( entities.next() );
+			}
+		}
+	}
+
+	private void detachChunk() {
+		if ( size > 0 && session.isSessionImplementor() && !session.isClosed() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+				final Object entity = entry.getKey();
+				// evicting an entity evicts its collections, and entities cascaded to
+				// might already have been evicted
+				if ( !managedBeforeChunk.contains( entity ) && persistenceContext.isEntryFor( entity ) ) {
+					session.asSessionImplementor().detach( entity );
+				}
+			}
+		}
+		Arrays.fill( chunk, 0, size, null );
+		size = 0;
+		position = 0;
+	}
+}
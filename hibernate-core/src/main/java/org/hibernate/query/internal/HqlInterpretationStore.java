@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Version;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+
+import org.jboss.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Stores the HQL query strings interpreted by a {@link QueryInterpretationCacheStandardImpl}
+ * in a file, so that a later {@link org.hibernate.SessionFactory} for the same domain model
+ * interprets them at startup instead of on the first execution of each query.
+ * <p>
+ * The SQM trees themselves refer to the runtime metamodel, and so only the query strings
+ * are stored. They are interpreted again against the current metamodel, which means a stale
+ * file never results in a wrong interpretation. The file records a hash of the mapping model,
+ * and is ignored when the hash does not match, merely to avoid interpreting queries which
+ * are likely to fail. A file which cannot be read, or is corrupted, is ignored as well.
+ * <p>
+ * The stored queries are interpreted when the {@link org.hibernate.SessionFactory} starts.
+ * They are not counted as query plan cache misses in the {@link org.hibernate.stat.Statistics},
+ * which only reflect the queries executed by the application.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_HQL_STORE
+ */
+public class HqlInterpretationStore {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int MAGIC = 0x48514C01;
+
+	private final Path file;
+	private final int mappingHash;
+	private final QueryInterpretationCacheStandardImpl interpretationCache;
+
+	public HqlInterpretationStore(
+			Path file,
+			int mappingHash,
+			QueryInterpretationCacheStandardImpl interpretationCache) {
+		this.file = file;
+		this.mappingHash = mappingHash;
+		this.interpretationCache = interpretationCache;
+	}
+
+	/**
+	 * A hash of the entity mappings, the {@link Dialect} and the version of Hibernate
+	 */
+	public static int mappingHash(MetadataImplementor metadata, Dialect dialect) {
+		final List<String> entries = new ArrayList<>();
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			final StringBuilder entry = new StringBuilder( entityBinding.getEntityName() );
+			for ( Property property : entityBinding.getPropertyClosure() ) {
+				entry.append( ',' ).append( property.getName() );
+			}
+			entries.add( entry.toString() );
+		}
+		for ( Map.Entry<String, String> entry : metadata.getImports().entrySet() ) {
+			entries.add( entry.getKey() + '=' + entry.getValue() );
+		}
+		entries.sort( null );
+
+		int hash = Version.getVersionString().hashCode();
+		hash = 31 * hash + dialect.getClass().getName().hashCode();
+		for ( String entry : entries ) {
+			hash = 31 * hash + entry.hashCode();
+		}
+		return hash;
+	}
+
+	/**
+	 * Interpret the queries stored in the file, if it exists and was written
+	 * for the same mapping model
+	 */
+	public void load(HqlTranslator translator) {
+		if ( !Files.isRegularFile( file ) ) {
+			return;
+		}
+
+		final List<String> cacheKeys;
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			cacheKeys = read( channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() ) );
+		}
+		catch (IOException | RuntimeException e) {
+			log.warnf( "Unable to read stored HQL queries from %s: %s", file, e.getMessage() );
+			return;
+		}
+
+		if ( cacheKeys == null ) {
+			log.debugf( "Ignoring stored HQL queries in %s written for a different mapping model", file );
+			return;
+		}
+
+		int count = 0;
+		for ( String cacheKey : cacheKeys ) {
+			try {
+				interpretationCache.resolveHqlInterpretation( cacheKey, translator );
+				count++;
+			}
+			catch (RuntimeException e) {
+				log.debugf( "Unable to interpret stored HQL query `%s`: %s", cacheKey, e.getMessage() );
+			}
+		}
+		log.debugf( "Interpreted %s stored HQL queries from %s", count, file );
+	}
+
+	private List<String> read(ByteBuffer buffer) throws IOException {
+		if ( buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != mappingHash ) {
+			return null;
+		}
+		// validate the sizes before allocating anything, each query takes at least its length
+		final int count = buffer.getInt();
+		if ( count < 0 || count > buffer.remaining() / Integer.BYTES ) {
+			throw new IOException( "invalid number of queries " + count );
+		}
+		final List<String> cacheKeys = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			if ( buffer.remaining() < Integer.BYTES ) {
+				throw new IOException( "missing query " + i );
+			}
+			final int length = buffer.getInt();
+			if ( length < 0 || length > buffer.remaining() ) {
+				throw new IOException( "invalid length " + length + " of query " + i );
+			}
+			final byte[] bytes = new byte[length];
+			buffer.get( bytes );
+			cacheKeys.add( new String( bytes, UTF_8 ) );
+		}
+		return cacheKeys;
+	}
+
+	/**
+	 * Write the query strings currently held by the cache to the file
+	 */
+	public void save() {
+		final List<String> cacheKeys = interpretationCache.getHqlInterpretationKeys();
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			final Path temporary = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporary ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( mappingHash );
+				output.writeInt( cacheKeys.size() );
+				for ( String cacheKey : cacheKeys ) {
+					final byte[] bytes = cacheKey.getBytes( UTF_8 );
+					output.writeInt( bytes.length );
+					output.write( bytes );
+				}
+			}
+			try {
+				Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING );
+			}
+			log.debugf( "Stored %s HQL queries in %s", cacheKeys.size(), file );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to store HQL queries in %s: %s", file, e.getMessage() );
+		}
+	}
+}
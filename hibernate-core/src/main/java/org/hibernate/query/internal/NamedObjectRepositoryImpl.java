@@ -6,8 +6,14 @@
  */
 package org.hibernate.query.internal;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -22,7 +28,6 @@ import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 
@@ -41,6 +46,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private int startupCheckParallelism = 1;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento> sqlMementoMap,
@@ -173,6 +180,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		startupCheckParallelism = sessionFactory.getSessionFactoryOptions().getNamedQueryStartupCheckingParallelism();
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -226,24 +235,16 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
-
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			try {
-				log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
-				String queryString = hqlMemento.getHqlString();
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						s -> queryEngine.getHqlTranslator().translate( queryString, null )
-				);
-			}
-			catch ( HibernateException e ) {
-				errors.put( hqlMemento.getRegistrationName(), e );
+		if ( startupCheckParallelism > 1 && sqmMementoMap.size() > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, errors );
+		}
+		else {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
 			}
 		}
 
@@ -286,6 +287,53 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	}
 
 
+	private void checkNamedHqlQueriesInParallel(QueryEngine queryEngine, Map<String, HibernateException> errors) {
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( startupCheckParallelism, sqmMementoMap.size() )
+		);
+		try {
+			final List<Future<?>> checks = new ArrayList<>( sqmMementoMap.size() );
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				checks.add( executor.submit( () -> checkNamedHqlQuery( hqlMemento, queryEngine, errors ) ) );
+			}
+			for ( Future<?> check : checks ) {
+				check.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named HQL queries", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Unable to check named HQL queries", e.getCause() );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void checkNamedHqlQuery(
+			NamedSqmQueryMemento hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		try {
+			log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
+			String queryString = hqlMemento.getHqlString();
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					s -> queryEngine.getHqlTranslator().translate( queryString, null )
+			);
+		}
+		catch ( HibernateException e ) {
+			errors.put( hqlMemento.getRegistrationName(), e );
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,6 +15,7 @@ import jakarta.persistence.Tuple;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -130,6 +133,28 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return hqlInterpretation;
 	}
 
+	/**
+	 * The keys of the cached HQL interpretations
+	 */
+	List<String> getHqlInterpretationKeys() {
+		return new ArrayList<>( hqlInterpretationCache.keySet() );
+	}
+
+	/**
+	 * Interpret the query identified by a key returned by {@link #getHqlInterpretationKeys()}.
+	 * This is not a lookup by the application, and so is not counted in the statistics.
+	 */
+	void resolveHqlInterpretation(String cacheKey, HqlTranslator translator) {
+		final Class<?> expectedResultType = cacheKey.startsWith( "multi_" ) ? Object[].class : null;
+		final String queryString = expectedResultType == null ? cacheKey : cacheKey.substring( "multi_".length() );
+		if ( hqlInterpretationCache.get( cacheKey ) == null ) {
+			hqlInterpretationCache.putIfAbsent(
+					cacheKey,
+					interpretHql( translator.translate( queryString, expectedResultType ) )
+			);
+		}
+	}
+
 	protected static HqlInterpretation createHqlInterpretation(
 			String queryString,
 			Function<String, SqmStatement<?>> creator,
@@ -138,7 +163,18 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = ( stats ) ? System.nanoTime() : 0L;
 
-		final SqmStatement<?> sqmStatement = creator.apply( queryString );
+		final HqlInterpretation hqlInterpretation = interpretHql( creator.apply( queryString ) );
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			statistics.queryCompiled( queryString, microseconds );
+		}
+
+		return hqlInterpretation;
+	}
+
+	private static HqlInterpretation interpretHql(SqmStatement<?> sqmStatement) {
 		final ParameterMetadataImplementor parameterMetadata;
 		final DomainParameterXref domainParameterXref;
 
@@ -151,12 +187,6 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
 		}
 
-		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryCompiled( queryString, microseconds );
-		}
-
 		return new SimpleHqlInterpretationImpl( sqmStatement, parameterMetadata, domainParameterXref );
 	}
 
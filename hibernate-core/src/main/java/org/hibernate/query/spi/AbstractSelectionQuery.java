@@ -47,10 +47,13 @@ import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.ChunkedScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -382,6 +385,11 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
+		throw new UnsupportedOperationException( "Key-based pagination is only supported for HQL and criteria queries" );
+	}
+
 	protected void beforeQuery() {
 		getQueryParameterBindings().validate();
 
@@ -450,6 +458,25 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public Stream<R> getResultStream(int chunkSize) {
+		if ( chunkSize <= 0 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive: " + chunkSize );
+		}
+		final ScrollableResultsImplementor<R> scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		if ( getQueryOptions().getFetchSize() == null
+				&& getSession().getFactory().getSessionFactoryOptions().getJdbcFetchSize() == null ) {
+			// applies to the ResultSet of this scroll, and leaves the query options alone
+			scrollableResults.setFetchSize( chunkSize );
+		}
+		final ChunkedScrollableResultsIterator<R> iterator =
+				new ChunkedScrollableResultsIterator<>( scrollableResults, chunkSize, getSession() );
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		final Stream<R> stream = StreamSupport.stream( spliterator, false );
+		return stream.onClose( scrollableResults::close );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
+import org.hibernate.query.internal.HqlInterpretationStore;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
 import org.hibernate.query.named.NamedObjectRepository;
@@ -63,6 +65,8 @@ public class QueryEngine {
 	public static QueryEngine from(SessionFactoryImplementor sessionFactory, MetadataImplementor metadata) {
 		final QueryEngineOptions options = sessionFactory.getSessionFactoryOptions();
 		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		final QueryInterpretationCache interpretationCache =
+				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() );
 		return new QueryEngine(
 				sessionFactory,
 				metadata.getTypeConfiguration(),
@@ -70,7 +74,8 @@ public class QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() )
+				interpretationCache,
+				buildHqlInterpretationStore( interpretationCache, sessionFactory.getProperties(), metadata, dialect )
 		);
 	}
 
@@ -117,6 +122,7 @@ public class QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final TypeConfiguration typeConfiguration;
+	private final HqlInterpretationStore hqlInterpretationStore;
 
 	private QueryEngine(
 			SessionFactoryImplementor sessionFactory,
@@ -125,13 +131,15 @@ public class QueryEngine {
 			SqmTranslatorFactory sqmTranslatorFactory,
 			SqmFunctionRegistry functionRegistry,
 			NamedObjectRepository namedObjectRepository,
-			QueryInterpretationCache interpretationCache) {
+			QueryInterpretationCache interpretationCache,
+			HqlInterpretationStore hqlInterpretationStore) {
 		this.typeConfiguration = typeConfiguration;
 		this.sqmFunctionRegistry = functionRegistry;
 		this.sqmTranslatorFactory = sqmTranslatorFactory;
 		this.hqlTranslator = hqlTranslator;
 		this.namedObjectRepository = namedObjectRepository;
 		this.interpretationCache = interpretationCache;
+		this.hqlInterpretationStore = hqlInterpretationStore;
 		this.nativeQueryInterpreter = sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 		final SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
@@ -212,7 +220,32 @@ public class QueryEngine {
 		}
 	}
 
+	private static HqlInterpretationStore buildHqlInterpretationStore(
+			QueryInterpretationCache interpretationCache,
+			Map<String,Object> properties,
+			MetadataImplementor metadata,
+			Dialect dialect) {
+		final String file = ConfigurationHelper.getString( AvailableSettings.QUERY_PLAN_CACHE_HQL_STORE, properties );
+		if ( file == null || file.isEmpty() ) {
+			return null;
+		}
+		else if ( interpretationCache instanceof QueryInterpretationCacheStandardImpl ) {
+			return new HqlInterpretationStore(
+					Path.of( file ),
+					HqlInterpretationStore.mappingHash( metadata, dialect ),
+					(QueryInterpretationCacheStandardImpl) interpretationCache
+			);
+		}
+		else {
+			// nothing to store when the cache is disabled
+			return null;
+		}
+	}
+
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		if ( hqlInterpretationStore != null ) {
+			hqlInterpretationStore.load( hqlTranslator );
+		}
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel );
 	}
 
@@ -264,6 +297,10 @@ public class QueryEngine {
 			hqlTranslator.close();
 		}
 
+		if ( hqlInterpretationStore != null ) {
+			hqlInterpretationStore.save();
+		}
+
 		if ( interpretationCache != null ) {
 			interpretationCache.close();
 		}
@@ -8,6 +8,7 @@ package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +28,8 @@ import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -72,7 +75,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of translations kept for the query options and parameter
+	 * bindings the plan is executed with
+	 */
+	private static final int MAX_INTERPRETATIONS = 8;
+	private static final CacheableSqmInterpretation[] NO_INTERPRETATIONS = new CacheableSqmInterpretation[0];
+
+	// copy-on-write, most recently built first
+	private volatile CacheableSqmInterpretation[] cacheableSqmInterpretations = NO_INTERPRETATIONS;
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -96,53 +107,43 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						uniqueSemantic
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					uniqueSemantic
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
@@ -252,38 +253,34 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		// A translation depending on parameter bindings, on the number of values of a multi-valued
+		// parameter, or on the limit or lock options, is not compatible with every execution. So we
+		// keep a few translations and look for a compatible one without locking. Only when none is
+		// found do we lock, to avoid concurrently building the same translation.
+
+		final CacheableSqmInterpretation[] interpretations = cacheableSqmInterpretations;
+		for ( CacheableSqmInterpretation interpretation : interpretations ) {
+			final JdbcParameterBindings jdbcParameterBindings = compatibleParameterBindings( interpretation, executionContext );
+			if ( jdbcParameterBindings != null ) {
+				return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+			}
+		}
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		CacheableSqmInterpretation localCopy = null;
 		JdbcParameterBindings jdbcParameterBindings = null;
-
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+		synchronized ( this ) {
+			final CacheableSqmInterpretation[] current = cacheableSqmInterpretations;
+			if ( current != interpretations ) {
+				// another thread added a translation in the meantime
+				for ( CacheableSqmInterpretation interpretation : current ) {
+					jdbcParameterBindings = compatibleParameterBindings( interpretation, executionContext );
+					if ( jdbcParameterBindings != null ) {
+						localCopy = interpretation;
+						break;
+					}
 				}
 			}
-		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			if ( localCopy == null ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
 						domainParameterXref,
@@ -291,22 +288,49 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
-			}
-		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+				final int size = Math.min( current.length + 1, MAX_INTERPRETATIONS );
+				final CacheableSqmInterpretation[] updated = new CacheableSqmInterpretation[size];
+				updated[0] = localCopy;
+				System.arraycopy( current, 0, updated, 1, size - 1 );
+				cacheableSqmInterpretations = updated;
+			}
 		}
 
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * The parameter bindings for executing the given translation, or {@code null} if it
+	 * is not compatible with the parameter bindings or query options of the execution.
+	 */
+	private JdbcParameterBindings compatibleParameterBindings(
+			CacheableSqmInterpretation sqmInterpretation,
+			DomainQueryExecutionContext executionContext) {
+		// If the number of expansions of a multi-valued parameter differs, the SQL AST has to be rebuilt
+		if ( !sqmInterpretation.hasSameBindValueCounts( executionContext.getQueryParameterBindings() ) ) {
+			return null;
+		}
+		final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		// The limit is checked before creating the parameter bindings, which are only needed
+		// for values inlined into the SQL, so that skipping a translation is cheap
+		if ( !jdbcSelect.isCompatibleWithLimit( queryOptions ) ) {
+			return null;
+		}
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( sqmInterpretation, executionContext );
+		if ( jdbcSelect.dependsOnParameterBindings()
+				&& !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+			return null;
+		}
+		return jdbcParameterBindings;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -323,7 +347,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref planParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
@@ -331,6 +355,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 		final SqmTranslatorFactory sqmTranslatorFactory = queryEngine.getSqmTranslatorFactory();
 
+		// the expansions of multi-valued parameters are specific to this interpretation,
+		// and the plan may be executed concurrently
+		final DomainParameterXref domainParameterXref = planParameterXref.copy();
+
 		final SqmTranslator<SelectStatement> sqmConverter = sqmTranslatorFactory.createSelectTranslator(
 				sqm,
 				executionContext.getQueryOptions(),
@@ -374,12 +402,32 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
+				domainParameterXref,
+				domainParameterXref.hasExactExpansions()
+						? determineBindValueCounts( domainParameterXref, executionContext.getQueryParameterBindings() )
+						: null,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	private static Map<QueryParameterImplementor<?>, Integer> determineBindValueCounts(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings bindings) {
+		final Map<QueryParameterImplementor<?>, Integer> bindValueCounts = new IdentityHashMap<>();
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				bindValueCounts.put( queryParameter, bindValueCount( bindings.getBinding( queryParameter ) ) );
+			}
+		}
+		return bindValueCounts;
+	}
+
+	private static int bindValueCount(QueryParameterBinding<?> binding) {
+		return binding.isMultiValued() ? binding.getBindValues().size() : -1;
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -392,6 +440,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
+		private final Map<QueryParameterImplementor<?>, Integer> bindValueCounts;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -400,12 +450,16 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
+				Map<QueryParameterImplementor<?>, Integer> bindValueCounts,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
+			this.bindValueCounts = bindValueCounts;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -423,6 +477,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
+		/**
+		 * Whether the multi-valued parameters, whose expansions correspond exactly to the
+		 * bind values they were translated for, still have the same number of bind values.
+		 * The number of expansions of a padded IN list is instead accounted for by the
+		 * {@linkplain SqmInterpretationsKey cache key} of the plan.
+		 */
+		boolean hasSameBindValueCounts(QueryParameterBindings bindings) {
+			if ( bindValueCounts != null ) {
+				for ( Map.Entry<QueryParameterImplementor<?>, Integer> entry : bindValueCounts.entrySet() ) {
+					if ( bindValueCount( bindings.getBinding( entry.getKey() ) ) != entry.getValue() ) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
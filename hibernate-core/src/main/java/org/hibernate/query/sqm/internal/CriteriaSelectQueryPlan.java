@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+
+/**
+ * A {@link SelectQueryPlan} built for one criteria query, and shared by all criteria
+ * queries with the same {@linkplain SqmStatementStructure structure}.
+ * <p>
+ * The plan looks up the values of its parameters using the
+ * {@link org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter} objects of the
+ * tree it was built for. When it is executed for another tree, the
+ * {@linkplain #forParameters view} returned for the parameters of that tree maps each
+ * parameter of the plan to the parameter with the same ordinal in the other tree.
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<QueryParameterImplementor<?>> parameters;
+
+	public CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<QueryParameterImplementor<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Obtain a plan executing this plan with the bindings of the given parameters,
+	 * which correspond by position to the parameters of this plan.
+	 */
+	public SelectQueryPlan<R> forParameters(List<QueryParameterImplementor<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+		if ( isSameParameters( queryParameters ) ) {
+			return delegate;
+		}
+		final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap =
+				new IdentityHashMap<>( parameters.size() );
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			parameterMap.put( parameters.get( i ), queryParameters.get( i ) );
+		}
+		return new SelectQueryPlan<R>() {
+			@Override
+			public List<R> performList(DomainQueryExecutionContext executionContext) {
+				return delegate.performList( remap( executionContext, parameterMap ) );
+			}
+
+			@Override
+			public ScrollableResultsImplementor<R> performScroll(
+					ScrollMode scrollMode,
+					DomainQueryExecutionContext executionContext) {
+				return delegate.performScroll( scrollMode, remap( executionContext, parameterMap ) );
+			}
+		};
+	}
+
+	private boolean isSameParameters(List<QueryParameterImplementor<?>> queryParameters) {
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != queryParameters.get( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static DomainQueryExecutionContext remap(
+			DomainQueryExecutionContext executionContext,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+		final QueryParameterBindings bindings = new RemappedQueryParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				parameterMap
+		);
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return bindings;
+			}
+		};
+	}
+
+	/**
+	 * Exposes the bindings of the parameters of the executing query as bindings
+	 * of the corresponding parameters of the plan.
+	 */
+	private static class RemappedQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap;
+
+		private RemappedQueryParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+			this.delegate = delegate;
+			this.parameterMap = parameterMap;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMap.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return delegate.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
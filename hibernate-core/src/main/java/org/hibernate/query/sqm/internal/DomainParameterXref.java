@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.hibernate.query.internal.QueryParameterNamedImpl;
@@ -114,6 +115,7 @@ public class DomainParameterXref {
 	private final Map<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Set<SqmParameter<?>> inListParameters;
 
 	/**
 	 * @implSpec Constructor is defined as public for
@@ -206,6 +208,42 @@ public class DomainParameterXref {
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
 	}
 
+	/**
+	 * Add an expansion of the single parameter of an IN list, whose expansions
+	 * may outnumber its bind values when the IN list is padded.
+	 *
+	 * @see SqmUtil#determineInListExpansionCount
+	 */
+	public void addInListExpansion(
+			QueryParameterImplementor<?> domainParam,
+			SqmParameter<?> originalSqmParameter,
+			SqmParameter<?> expansion) {
+		addExpansion( domainParam, originalSqmParameter, expansion );
+
+		if ( inListParameters == null ) {
+			inListParameters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		}
+
+		inListParameters.add( originalSqmParameter );
+	}
+
+	/**
+	 * Whether any parameter was expanded to exactly the number of its bind values,
+	 * in which case the interpretation depends on that number.
+	 */
+	public boolean hasExactExpansions() {
+		if ( expansions == null ) {
+			return false;
+		}
+
+		for ( SqmParameter<?> sqmParameter : expansions.keySet() ) {
+			if ( inListParameters == null || !inListParameters.contains( sqmParameter ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		if ( expansions == null ) {
 			return Collections.emptyList();
@@ -227,5 +265,9 @@ public class DomainParameterXref {
 		}
 
 		expansions.clear();
+
+		if ( inListParameters != null ) {
+			inListParameters.clear();
+		}
 	}
 }
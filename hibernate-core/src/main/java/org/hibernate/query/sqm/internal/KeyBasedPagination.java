@@ -0,0 +1,264 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SortOrder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmAliasedNodeRef;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.SqmQuerySource;
+
+/**
+ * Executes a {@link KeyedPage} of a select query. The query is copied, and the copy
+ * <ul>
+ *     <li>additionally selects the items of the {@code order by} clause, which are the key of a result,
+ *     <li>is restricted to the results which follow the key of the page, by a row value comparison
+ *     {@code (a, b) > (?, ?)}, or the equivalent disjunction if the sort directions differ, and
+ *     <li>is limited to one more result than the page size, to know whether there is a next page.
+ * </ul>
+ * Dialects which don't support row value comparisons render the expanded form of the comparison.
+ */
+public final class KeyBasedPagination {
+	private KeyBasedPagination() {
+	}
+
+	public static <R> KeyedResultList<R> list(
+			SqmSelectStatement<?> sqm,
+			ParameterMetadataImplementor parameterMetadata,
+			QueryParameterBindings parameterBindings,
+			QueryOptions queryOptions,
+			SharedSessionContractImplementor session,
+			KeyedPage<R> page) {
+		if ( !sqm.getCteStatements().isEmpty() ) {
+			throw new IllegalArgumentException( "Key-based pagination is not supported for queries with common table expressions" );
+		}
+		final SqmQueryPart<?> queryPart = sqm.getQueryPart().copy( SqmCopyContext.simpleContext() );
+		if ( !( queryPart instanceof SqmQuerySpec<?> ) ) {
+			throw new IllegalArgumentException( "Key-based pagination is not supported for set operations" );
+		}
+		final SqmQuerySpec<?> querySpec = (SqmQuerySpec<?>) queryPart;
+		if ( querySpec.getFetchExpression() != null || querySpec.getOffsetExpression() != null ) {
+			throw new IllegalArgumentException( "Key-based pagination is not supported for queries with a limit or offset" );
+		}
+		if ( querySpec.getSelectClause().getSelections().size() != 1 ) {
+			throw new IllegalArgumentException( "Key-based pagination is only supported for queries with a single select item" );
+		}
+		final List<SqmSortSpecification> sortSpecifications = resolveSortSpecifications( querySpec );
+		final List<Object> key = page.getKey();
+		if ( key != null && key.size() != sortSpecifications.size() ) {
+			throw new IllegalArgumentException(
+					"Key of size " + key.size() + " does not match the " + sortSpecifications.size() + " items of the order by clause"
+			);
+		}
+
+		final NodeBuilder nodeBuilder = sqm.nodeBuilder();
+		final List<SqmExpression<?>> keyExpressions = new ArrayList<>( sortSpecifications.size() );
+		for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+			keyExpressions.add( sortSpecification.getSortExpression() );
+			querySpec.getSelectClause().addSelection( new SqmSelection<>( sortSpecification.getSortExpression(), nodeBuilder ) );
+		}
+		if ( key != null ) {
+			querySpec.applyPredicate( keyRestriction( sortSpecifications, keyExpressions, key, nodeBuilder ) );
+		}
+
+		//noinspection unchecked
+		final SqmSelectStatement<Object[]> keyedSqm = new SqmSelectStatement<>(
+				(SqmQueryPart<Object[]>) queryPart,
+				Object[].class,
+				SqmQuerySource.CRITERIA,
+				nodeBuilder
+		);
+		final SqmSelectionQueryImpl<Object[]> keyedQuery = new SqmSelectionQueryImpl<>( keyedSqm, Object[].class, session );
+		applyParameterBindings( parameterMetadata, parameterBindings, keyedQuery );
+		applyQueryOptions( queryOptions, keyedQuery.getQueryOptions() );
+		keyedQuery.setMaxResults( page.getSize() + 1 );
+
+		final List<Object[]> rows = keyedQuery.list();
+		final int size = Math.min( rows.size(), page.getSize() );
+		final List<R> results = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			//noinspection unchecked
+			results.add( (R) rows.get( i )[0] );
+		}
+		final KeyedPage<R> nextPage;
+		if ( rows.size() > page.getSize() ) {
+			final Object[] lastRow = rows.get( size - 1 );
+			nextPage = KeyedPage.after( Arrays.asList( lastRow ).subList( 1, lastRow.length ), page.getSize() );
+		}
+		else {
+			nextPage = null;
+		}
+		return new KeyedResultList<>( results, page, nextPage );
+	}
+
+	private static List<SqmSortSpecification> resolveSortSpecifications(SqmQuerySpec<?> querySpec) {
+		final SqmOrderByClause orderByClause = querySpec.getOrderByClause();
+		if ( orderByClause == null || orderByClause.getSortSpecifications().isEmpty() ) {
+			throw new IllegalArgumentException( "Key-based pagination requires an order by clause" );
+		}
+		final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+		for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+			if ( sortSpecification.getSortExpression() instanceof SqmAliasedNodeRef ) {
+				throw new IllegalArgumentException(
+						"Key-based pagination requires the order by items to be expressions rather than references to select items"
+				);
+			}
+		}
+		return sortSpecifications;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static SqmPredicate keyRestriction(
+			List<SqmSortSpecification> sortSpecifications,
+			List<SqmExpression<?>> keyExpressions,
+			List<Object> key,
+			NodeBuilder nodeBuilder) {
+		final List<SqmExpression<?>> keyValues = new ArrayList<>( key.size() );
+		for ( int i = 0; i < key.size(); i++ ) {
+			keyValues.add( nodeBuilder.value( key.get( i ), (SqmExpression) keyExpressions.get( i ) ) );
+		}
+
+		final SortOrder firstSortOrder = sortSpecifications.get( 0 ).getSortOrder();
+		boolean sameSortOrder = true;
+		for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+			sameSortOrder = sameSortOrder && sortSpecification.getSortOrder() == firstSortOrder;
+		}
+		if ( sameSortOrder ) {
+			// the SQL translation emulates the row value comparison if the dialect lacks support
+			final SqmExpression lhs = keyExpressions.size() == 1
+					? keyExpressions.get( 0 )
+					: new SqmTuple<>( keyExpressions, nodeBuilder );
+			final SqmExpression rhs = keyValues.size() == 1
+					? keyValues.get( 0 )
+					: new SqmTuple<>( keyValues, nodeBuilder );
+			return firstSortOrder == SortOrder.DESCENDING
+					? nodeBuilder.lessThan( lhs, rhs )
+					: nodeBuilder.greaterThan( lhs, rhs );
+		}
+
+		// (a > ?) or (a = ? and b < ?) or ...
+		final List<SqmPredicate> disjuncts = new ArrayList<>( keyExpressions.size() );
+		for ( int i = 0; i < keyExpressions.size(); i++ ) {
+			final List<SqmPredicate> conjuncts = new ArrayList<>( i + 1 );
+			for ( int j = 0; j < i; j++ ) {
+				conjuncts.add( nodeBuilder.equal( keyExpressions.get( j ), keyValues.get( j ) ) );
+			}
+			final SqmExpression keyExpression = keyExpressions.get( i );
+			final SqmExpression keyValue = keyValues.get( i );
+			conjuncts.add(
+					sortSpecifications.get( i ).getSortOrder() == SortOrder.DESCENDING
+							? nodeBuilder.lessThan( keyExpression, keyValue )
+							: nodeBuilder.greaterThan( keyExpression, keyValue )
+			);
+			disjuncts.add( nodeBuilder.and( conjuncts.toArray( new SqmPredicate[0] ) ) );
+		}
+		return nodeBuilder.or( disjuncts.toArray( new SqmPredicate[0] ) );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void applyParameterBindings(
+			ParameterMetadataImplementor parameterMetadata,
+			QueryParameterBindings parameterBindings,
+			SqmSelectionQueryImpl<?> keyedQuery) {
+		final ParameterMetadataImplementor keyedParameterMetadata = keyedQuery.getParameterMetadata();
+		parameterMetadata.visitParameters(
+				parameter -> {
+					final QueryParameterBinding<?> binding = parameterBindings.getBinding( parameter );
+					if ( !binding.isBound() ) {
+						return;
+					}
+					final QueryParameterImplementor<?> keyedParameter;
+					if ( parameter.getName() != null ) {
+						keyedParameter = keyedParameterMetadata.getQueryParameter( parameter.getName() );
+					}
+					else if ( parameter.getPosition() != null ) {
+						keyedParameter = keyedParameterMetadata.getQueryParameter( parameter.getPosition() );
+					}
+					else {
+						// criteria parameters are not copied
+						keyedParameter = parameter;
+					}
+					final QueryParameterBinding keyedBinding = keyedQuery.getQueryParameterBindings()
+							.getBinding( keyedParameter );
+					final BindableType bindType = binding.getBindType();
+					if ( binding.isMultiValued() ) {
+						if ( bindType == null ) {
+							keyedBinding.setBindValues( binding.getBindValues() );
+						}
+						else {
+							keyedBinding.setBindValues( binding.getBindValues(), bindType );
+						}
+					}
+					else if ( bindType == null ) {
+						keyedBinding.setBindValue( binding.getBindValue() );
+					}
+					else {
+						keyedBinding.setBindValue( binding.getBindValue(), bindType );
+					}
+				}
+		);
+	}
+
+	private static void applyQueryOptions(QueryOptions source, MutableQueryOptions target) {
+		if ( source.getFlushMode() != null ) {
+			target.setFlushMode( source.getFlushMode() );
+		}
+		if ( source.getCacheRetrieveMode() != null ) {
+			target.setCacheRetrieveMode( source.getCacheRetrieveMode() );
+		}
+		if ( source.getCacheStoreMode() != null ) {
+			target.setCacheStoreMode( source.getCacheStoreMode() );
+		}
+		if ( source.isResultCachingEnabled() != null ) {
+			target.setResultCachingEnabled( source.isResultCachingEnabled() );
+		}
+		if ( source.getResultCacheRegionName() != null ) {
+			target.setResultCacheRegionName( source.getResultCacheRegionName() );
+		}
+		if ( source.getTimeout() != null ) {
+			target.setTimeout( source.getTimeout() );
+		}
+		if ( source.getFetchSize() != null ) {
+			target.setFetchSize( source.getFetchSize() );
+		}
+		if ( source.isReadOnly() != null ) {
+			target.setReadOnly( source.isReadOnly() );
+		}
+		if ( source.getComment() != null ) {
+			target.setComment( source.getComment() );
+		}
+		final AppliedGraph appliedGraph = source.getAppliedGraph();
+		if ( appliedGraph != null && appliedGraph.getSemantic() != null ) {
+			target.applyGraph( appliedGraph.getGraph(), appliedGraph.getSemantic() );
+		}
+		target.getLockOptions().overlay( source.getLockOptions() );
+	}
+}
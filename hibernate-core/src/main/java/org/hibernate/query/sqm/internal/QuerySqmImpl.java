@@ -17,7 +17,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -49,6 +48,8 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
@@ -477,13 +478,12 @@ public class QuerySqmImpl<R>
 	}
 
 	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+	public SqmStatementStructure getCriteriaStructure() {
+		// the tuple metadata refers to the selection nodes of this particular tree
+		if ( CRITERIA_HQL_STRING.equals( hql ) && tupleMetadata == null ) {
+			return SqmStatementStructure.from( sqm );
+		}
+		return null;
 	}
 
 
@@ -506,6 +506,19 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
+		verifySelect();
+		return KeyBasedPagination.list(
+				(SqmSelectStatement<?>) getSqmStatement(),
+				getParameterMetadata(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getSession(),
+				page
+		);
+	}
+
 	protected List<R> doList() {
 		verifySelect();
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
@@ -638,33 +651,68 @@ public class QuerySqmImpl<R>
 	// Select query plan
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
-		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildSelectQueryPlan
-			);
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
+		if ( cacheKey == null ) {
+			return buildSelectQueryPlan();
+		}
+		final QueryInterpretationCache interpretationCache = getSession().getFactory().getQueryEngine().getInterpretationCache();
+		final SqmStatementStructure structure = cacheKey.getStructure();
+		if ( structure == null ) {
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
 		}
 		else {
-			return buildSelectQueryPlan();
+			final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>)
+					interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildCriteriaSelectQueryPlan );
+			return queryPlan.forParameters( structure.getParameters() );
 		}
 	}
 
 	private SelectQueryPlan<R> buildSelectQueryPlan() {
+		return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildCriteriaSelectQueryPlan() {
+		final SqmSelectStatement<R> statement;
+		final DomainParameterXref parameterXref;
+		if ( getSession().isCriteriaCopyTreeEnabled() ) {
+			statement = (SqmSelectStatement<R>) getSqmStatement();
+			parameterXref = getDomainParameterXref();
+		}
+		else {
+			// the plan outlives this query, so it must not see later changes to the criteria tree
+			statement = (SqmSelectStatement<R>) getSqmStatement().copy( SqmCopyContext.simpleContext() );
+			parameterXref = DomainParameterXref.from( statement );
+		}
+		return new CriteriaSelectQueryPlan<>(
+				buildSelectQueryPlan( statement, parameterXref ),
+				SqmStatementStructure.from( statement ).getParameters()
+		);
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> statement,
+			DomainParameterXref parameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				statement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, parameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					parameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref parameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -673,6 +721,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					parameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -683,12 +732,13 @@ public class QuerySqmImpl<R>
 
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref parameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				parameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -854,6 +904,11 @@ public class QuerySqmImpl<R>
 					useMultiTableInsert = !hasIdentifierAssigned( sqmInsert, entityDescriptor );
 				}
 			}
+			else if ( identifierGenerator instanceof BulkInsertionCapableIdentifierGenerator
+					&& !( (BulkInsertionCapableIdentifierGenerator) identifierGenerator ).supportsBulkInsertionIdentifierGeneration() ) {
+				// the identifiers are generated in memory, one row at a time
+				useMultiTableInsert = !hasIdentifierAssigned( sqmInsert, entityDescriptor );
+			}
 		}
 		if ( !useMultiTableInsert ) {
 			return new SimpleInsertQueryPlan( sqmInsert, domainParameterXref );
@@ -6,16 +6,33 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.function.Supplier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
 
-import static java.lang.Boolean.TRUE;
+import static java.util.Comparator.comparing;
 
 /**
  * @author Steve Ebersole
@@ -25,57 +42,170 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		String getQueryString();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
+		ParameterMetadataImplementor getParameterMetadata();
+		QueryParameterBindings getQueryParameterBindings();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+
+		/**
+		 * The structure of the criteria tree of the query, or {@code null} if the query
+		 * is not a criteria query, or if its plan may not be shared with other criteria
+		 * queries.
+		 */
+		SqmStatementStructure getCriteriaStructure();
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
-		if ( ! isCacheable( keySource ) ) {
-			return null;
+		assert keySource.getQueryOptions().getAppliedGraph() != null;
+
+		final SqmStatementStructure structure;
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			// with Criteria, the parameters are not part of the query string, so a plan
+			// may only be shared by trees of the same structure, which maps the
+			// parameters of one tree to those of the other
+			structure = keySource.getCriteriaStructure();
+			if ( structure == null ) {
+				return null;
+			}
+		}
+		else {
+			structure = null;
 		}
 
 		return new SqmInterpretationsKey(
 				keySource.getQueryString(),
+				structure,
+				multiValuedParameterSignature( keySource, structure ),
+				filterSignature( keySource.getLoadQueryInfluencers() ),
+				graphSignature( keySource.getQueryOptions().getAppliedGraph() ),
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
 				keySource.getQueryOptions().getResultListTransformer()
 		);
 	}
-	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(InterpretationsKeySource keySource) {
-		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
+	/**
+	 * The number of expansions of each multi-valued parameter, which with
+	 * {@linkplain SqmUtil#determineInListExpansionCount IN clause parameter padding}
+	 * is shared by bindings with a similar number of values.
+	 */
+	private static String multiValuedParameterSignature(
+			InterpretationsKeySource keySource,
+			SqmStatementStructure structure) {
+		final List<QueryParameterImplementor<?>> parameters;
+		if ( structure != null ) {
+			parameters = structure.getParameters();
+		}
+		else {
+			parameters = new ArrayList<>();
+			keySource.getParameterMetadata().collectAllParameters( parameters::add );
+			parameters.sort( comparing( SqmInterpretationsKey::parameterLabel ) );
 		}
 
-		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
-			// At the moment we cannot cache query plan if there is filter enabled.
-			return false;
+		final QueryParameterBindings bindings = keySource.getQueryParameterBindings();
+		final SessionFactoryImplementor factory = keySource.getLoadQueryInfluencers().getSessionFactory();
+		StringBuilder signature = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			final QueryParameterImplementor<?> parameter = parameters.get( i );
+			if ( parameter.allowsMultiValuedBinding() ) {
+				final QueryParameterBinding<?> binding = bindings.getBinding( parameter );
+				if ( signature == null ) {
+					signature = new StringBuilder();
+				}
+				signature.append( i ).append( ':' );
+				if ( binding.isMultiValued() ) {
+					signature.append(
+							SqmUtil.determineInListExpansionCount( binding.getBindValues().size(), factory )
+					);
+				}
+				else {
+					signature.append( '-' );
+				}
+				signature.append( ',' );
+			}
 		}
+		return signature == null ? null : signature.toString();
+	}
 
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
-			return false;
+	private static String parameterLabel(QueryParameterImplementor<?> parameter) {
+		return parameter.getName() != null ? parameter.getName() : "?" + parameter.getPosition();
+	}
+
+	/**
+	 * The enabled filters, along with the number of values of each multi-valued
+	 * filter parameter, which determine the SQL rendered for the filters. The
+	 * values themselves are looked up on execution, see
+	 * {@link org.hibernate.internal.FilterJdbcParameter}.
+	 */
+	private static String filterSignature(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		final StringBuilder signature = new StringBuilder();
+		for ( Filter filter : new TreeMap<>( loadQueryInfluencers.getEnabledFilters() ).values() ) {
+			final FilterDefinition filterDefinition = filter.getFilterDefinition();
+			signature.append( filter.getName() ).append( '(' );
+			for ( String parameterName : new TreeSet<>( filterDefinition.getParameterNames() ) ) {
+				final Object value = ( (FilterImpl) filter ).getParameter( parameterName );
+				final JdbcMapping jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+				signature.append( parameterName );
+				if ( value instanceof Iterable
+						&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( value ) ) ) {
+					int count = 0;
+					for ( Object ignored : (Iterable<?>) value ) {
+						count++;
+					}
+					signature.append( '[' ).append( count ).append( ']' );
+				}
+				signature.append( ',' );
+			}
+			signature.append( ')' );
 		}
+		return signature.toString();
+	}
 
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
+	/**
+	 * A canonical description of the applied entity graph, which does not depend on
+	 * the order in which its attribute nodes and subgraphs were added.
+	 */
+	private static String graphSignature(AppliedGraph appliedGraph) {
+		if ( appliedGraph.getSemantic() == null || appliedGraph.getGraph() == null ) {
+			return null;
 		}
+		final StringBuilder signature = new StringBuilder( appliedGraph.getSemantic().name() ).append( ':' );
+		appendGraphSignature( appliedGraph.getGraph(), signature );
+		return signature.toString();
+	}
 
-		return true;
+	private static void appendGraphSignature(GraphImplementor<?> graph, StringBuilder signature) {
+		signature.append( graph.getGraphedType().getTypeName() ).append( '(' );
+		final List<AttributeNodeImplementor<?>> attributeNodes = new ArrayList<>( graph.getAttributeNodeImplementors() );
+		attributeNodes.sort( comparing( AttributeNodeImplementor::getAttributeName ) );
+		for ( AttributeNodeImplementor<?> attributeNode : attributeNodes ) {
+			signature.append( attributeNode.getAttributeName() );
+			appendSubGraphSignatures( "/", attributeNode.getSubGraphMap(), signature );
+			appendSubGraphSignatures( "#", attributeNode.getKeySubGraphMap(), signature );
+			signature.append( ',' );
+		}
+		signature.append( ')' );
+	}
+
+	private static void appendSubGraphSignatures(
+			String prefix,
+			Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs,
+			StringBuilder signature) {
+		if ( subGraphs.isEmpty() ) {
+			return;
+		}
+		final List<Class<?>> subTypes = new ArrayList<>( subGraphs.keySet() );
+		subTypes.sort( comparing( Class::getName ) );
+		for ( Class<?> subType : subTypes ) {
+			signature.append( prefix ).append( subType.getName() ).append( '=' );
+			appendGraphSignature( subGraphs.get( subType ), signature );
+		}
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
@@ -88,6 +218,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 
 	private final String query;
+	private final SqmStatementStructure structure;
+	private final String multiValuedParameterSignature;
+	private final String filterSignature;
+	private final String graphSignature;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
@@ -95,11 +229,19 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	private SqmInterpretationsKey(
 			String query,
+			SqmStatementStructure structure,
+			String multiValuedParameterSignature,
+			String filterSignature,
+			String graphSignature,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer resultListTransformer) {
 		this.query = query;
+		this.structure = structure;
+		this.multiValuedParameterSignature = multiValuedParameterSignature;
+		this.filterSignature = filterSignature;
+		this.graphSignature = graphSignature;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
@@ -110,6 +252,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				structure,
+				multiValuedParameterSignature,
+				filterSignature,
+				graphSignature,
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
@@ -123,6 +269,13 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return query;
 	}
 
+	/**
+	 * The structure of the criteria tree, or {@code null} for an HQL query
+	 */
+	public SqmStatementStructure getStructure() {
+		return structure;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -134,6 +287,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 		final SqmInterpretationsKey that = (SqmInterpretationsKey) o;
 		return query.equals( that.query )
+				&& areEqual( structure, that.structure )
+				&& areEqual( multiValuedParameterSignature, that.multiValuedParameterSignature )
+				&& areEqual( filterSignature, that.filterSignature )
+				&& areEqual( graphSignature, that.graphSignature )
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
@@ -151,6 +308,6 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	@Override
 	public int hashCode() {
-		return query.hashCode();
+		return structure == null ? query.hashCode() : structure.hashCode();
 	}
 }
@@ -13,7 +13,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -34,6 +33,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
@@ -255,6 +256,18 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		resetCallback();
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
+		return KeyBasedPagination.list(
+				getSqmStatement(),
+				getParameterMetadata(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getSession(),
+				page
+		);
+	}
+
 	protected List<R> doList() {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
@@ -340,33 +353,61 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
-		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildQueryPlan
-			);
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
+		if ( cacheKey == null ) {
+			return buildQueryPlan();
+		}
+		final QueryInterpretationCache interpretationCache = getSession().getFactory().getQueryEngine().getInterpretationCache();
+		final SqmStatementStructure structure = cacheKey.getStructure();
+		if ( structure == null ) {
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildQueryPlan );
 		}
 		else {
-			return buildQueryPlan();
+			final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>)
+					interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildCriteriaQueryPlan );
+			return queryPlan.forParameters( structure.getParameters() );
 		}
 	}
 
 	private SelectQueryPlan<R> buildQueryPlan() {
+		return buildQueryPlan( (SqmSelectStatement<?>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildCriteriaQueryPlan() {
+		final SqmSelectStatement<?> statement;
+		final DomainParameterXref parameterXref;
+		if ( getSession().isCriteriaCopyTreeEnabled() ) {
+			statement = sqm;
+			parameterXref = getDomainParameterXref();
+		}
+		else {
+			// the plan outlives this query, so it must not see later changes to the criteria tree
+			statement = sqm.copy( SqmCopyContext.simpleContext() );
+			parameterXref = DomainParameterXref.from( statement );
+		}
+		return new CriteriaSelectQueryPlan<>(
+				buildQueryPlan( statement, parameterXref ),
+				SqmStatementStructure.from( statement ).getParameters()
+		);
+	}
+
+	private SelectQueryPlan<R> buildQueryPlan(SqmSelectStatement<?> statement, DomainParameterXref parameterXref) {
 		final SqmSelectStatement<?>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<?>) getSqmStatement(),
+				statement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedQueryPlan( concreteSqmStatements );
+			return buildAggregatedQueryPlan( concreteSqmStatements, parameterXref );
 		}
 		else {
-			return buildConcreteQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteQueryPlan( concreteSqmStatements[0], parameterXref, getResultType(), getQueryOptions() );
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref parameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -375,6 +416,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan(
 					concreteSqmStatements[i],
+					parameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -385,12 +427,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref parameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				parameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -413,13 +456,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	}
 
 	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+	public SqmStatementStructure getCriteriaStructure() {
+		// the tuple metadata refers to the selection nodes of this particular tree
+		if ( CRITERIA_HQL_STRING.equals( hql ) && tupleMetadata == null ) {
+			return SqmStatementStructure.from( sqm );
+		}
+		return null;
 	}
 
 
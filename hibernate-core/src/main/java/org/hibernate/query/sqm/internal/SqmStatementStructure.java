@@ -0,0 +1,1060 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.metamodel.model.domain.internal.EntityDiscriminatorSqmPath;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelatedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOrderedSetAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.SqmWindow;
+import org.hibernate.query.sqm.tree.expression.SqmWindowFunction;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+/**
+ * The structure of a criteria {@link SqmSelectStatement}, that is, everything about
+ * the tree which influences its translation to SQL, except for the identity of its
+ * nodes and the values bound to its {@linkplain JpaCriteriaParameter parameters}.
+ * Two criteria trees with equal structures, built independently of each other, are
+ * translated to the same SQL, so that they may share a cached
+ * {@link org.hibernate.query.spi.SelectQueryPlan}.
+ * <p>
+ * Parameters are abstracted out: each distinct parameter is represented by its
+ * ordinal, in the order in which it first occurs in the tree, along with its
+ * anticipated type. The {@linkplain #getParameters() parameters} of two trees with
+ * equal structures therefore correspond to each other by position.
+ * <p>
+ * Only the node types which are commonly produced by the criteria API are
+ * supported. A structure is not available for a tree containing CTEs, derived
+ * roots or joins, treats, window functions, or other less common nodes, and
+ * such a tree does not share its plan.
+ *
+ * @see SqmInterpretationsKey
+ * @see CriteriaSelectQueryPlan
+ */
+public final class SqmStatementStructure {
+
+	/**
+	 * Determine the structure of the given criteria statement.
+	 *
+	 * @return the structure, or {@code null} if the statement contains nodes
+	 * which are not supported
+	 */
+	public static SqmStatementStructure from(SqmStatement<?> statement) {
+		if ( !( statement instanceof SqmSelectStatement<?> ) ) {
+			return null;
+		}
+		final StructureCollector collector = new StructureCollector();
+		try {
+			collector.visitSelectStatement( (SqmSelectStatement<?>) statement );
+		}
+		catch (UnsupportedNodeException e) {
+			return null;
+		}
+		return new SqmStatementStructure( collector.elements, collector.parameters );
+	}
+
+	private final List<Object> elements;
+	private final List<QueryParameterImplementor<?>> parameters;
+	private final int hashCode;
+
+	private SqmStatementStructure(List<Object> elements, List<QueryParameterImplementor<?>> parameters) {
+		this.elements = elements;
+		this.parameters = parameters;
+		this.hashCode = elements.hashCode();
+	}
+
+	/**
+	 * The parameters of the statement, in the order of their first occurrence
+	 */
+	public List<QueryParameterImplementor<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof SqmStatementStructure ) ) {
+			return false;
+		}
+		final SqmStatementStructure that = (SqmStatementStructure) o;
+		return hashCode == that.hashCode && elements.equals( that.elements );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	private static final class UnsupportedNodeException extends RuntimeException {
+		private static final UnsupportedNodeException INSTANCE = new UnsupportedNodeException();
+
+		private UnsupportedNodeException() {
+			super( null, null, false, false );
+		}
+	}
+
+	/**
+	 * Flattens the tree into a list of elements. Every node contributes its type,
+	 * followed by a fixed number of elements determined by that type, so that the
+	 * list unambiguously describes the tree. Variable length lists of nodes are
+	 * preceded by their size.
+	 * <p>
+	 * A {@link SqmFrom} is declared in the {@code from} clause of its query spec,
+	 * where it is assigned an ordinal, and is represented by that ordinal wherever
+	 * else it is referenced.
+	 */
+	private static class StructureCollector implements SemanticQueryWalker<Object> {
+		private final List<Object> elements = new ArrayList<>();
+		private final List<QueryParameterImplementor<?>> parameters = new ArrayList<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromOrdinals = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+
+		private static Object unsupported() {
+			throw UnsupportedNodeException.INSTANCE;
+		}
+
+		private void add(Object element) {
+			elements.add( element );
+		}
+
+		private void visitNullable(SqmVisitableNode node) {
+			if ( node == null ) {
+				add( null );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+		private void visitNodes(List<? extends SqmVisitableNode> nodes) {
+			if ( nodes == null ) {
+				add( null );
+			}
+			else {
+				add( nodes.size() );
+				for ( SqmVisitableNode node : nodes ) {
+					node.accept( this );
+				}
+			}
+		}
+
+		private void visitExpression(SqmExpression<?> expression) {
+			add( expression.getClass() );
+			add( expression.getNodeType() );
+		}
+
+		private void visitPredicate(SqmPredicate predicate) {
+			add( predicate.getClass() );
+			add( predicate.isNegated() );
+		}
+
+		private void visitPath(SqmPath<?> path) {
+			add( path.getClass() );
+			add( path.getReferencedPathSource() );
+			visitNullable( path.getLhs() );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Statements and query parts
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			if ( !statement.getCteStatements().isEmpty() ) {
+				return unsupported();
+			}
+			add( statement.getClass() );
+			add( statement.getResultType() );
+			statement.getQueryPart().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			add( queryGroup.getClass() );
+			add( queryGroup.getSetOperator() );
+			visitNodes( queryGroup.getQueryParts() );
+			visitQueryPartTail( queryGroup );
+			return null;
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			add( querySpec.getClass() );
+			visitFromClause( querySpec.getFromClause() );
+			visitSelectClause( querySpec.getSelectClause() );
+			visitWhereClause( querySpec.getWhereClause() );
+			visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+			visitHavingClause( querySpec.getHavingClausePredicate() );
+			visitQueryPartTail( querySpec );
+			return null;
+		}
+
+		private void visitQueryPartTail(SqmQueryPart<?> queryPart) {
+			visitOrderByClause( queryPart.getOrderByClause() );
+			visitOffsetExpression( queryPart.getOffsetExpression() );
+			visitFetchExpression( queryPart.getFetchExpression() );
+			add( queryPart.getFetchClauseType() );
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			if ( !expression.getCteStatements().isEmpty() ) {
+				return unsupported();
+			}
+			visitExpression( expression );
+			expression.getQueryPart().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			if ( selectClause == null ) {
+				add( null );
+			}
+			else {
+				add( selectClause.isDistinct() );
+				final List<SqmSelection<?>> selections = selectClause.getSelections();
+				add( selections.size() );
+				for ( SqmSelection<?> selection : selections ) {
+					visitSelection( selection );
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			add( selection.getAlias() );
+			selection.getSelectableNode().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			add( sqmDynamicInstantiation.getClass() );
+			add( sqmDynamicInstantiation.getInstantiationTarget().getNature() );
+			add( sqmDynamicInstantiation.getInstantiationTarget().getJavaType() );
+			final List<SqmDynamicInstantiationArgument<?>> arguments = sqmDynamicInstantiation.getArguments();
+			add( arguments.size() );
+			for ( SqmDynamicInstantiationArgument<?> argument : arguments ) {
+				add( argument.getAlias() );
+				argument.getSelectableNode().accept( this );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			add( selection.getClass() );
+			add( selection.getJavaType() );
+			final List<SqmSelectableNode<?>> selectionItems = selection.getSelectionItems();
+			add( selectionItems.size() );
+			for ( SqmSelectableNode<?> selectionItem : selectionItems ) {
+				add( selectionItem.getAlias() );
+				selectionItem.accept( this );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			visitNullable( whereClause == null ? null : whereClause.getPredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			visitNodes( groupByClauseExpressions );
+			return null;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate clause) {
+			visitNullable( clause );
+			return null;
+		}
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			if ( orderByClause == null || orderByClause.getSortSpecifications() == null ) {
+				add( null );
+			}
+			else {
+				final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+				add( sortSpecifications.size() );
+				for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+					visitSortSpecification( sortSpecification );
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			add( sortSpecification.getSortOrder() );
+			add( sortSpecification.getNullPrecedence() );
+			sortSpecification.getSortExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			visitNullable( expression );
+			return null;
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			visitNullable( expression );
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// From clause
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			if ( fromClause == null ) {
+				add( null );
+			}
+			else {
+				final List<SqmRoot<?>> roots = fromClause.getRoots();
+				add( roots.size() );
+				for ( SqmRoot<?> root : roots ) {
+					declareRoot( root );
+				}
+			}
+			return null;
+		}
+
+		private void declareRoot(SqmRoot<?> root) {
+			if ( root instanceof SqmDerivedRoot<?> || root instanceof SqmCteRoot<?> ) {
+				unsupported();
+			}
+			else if ( root instanceof SqmCorrelatedRoot<?> ) {
+				add( root.getClass() );
+				visitReference( ( (SqmCorrelatedRoot<?>) root ).getCorrelationParent() );
+			}
+			else if ( root.isCorrelated() ) {
+				unsupported();
+			}
+			else {
+				add( root.getClass() );
+				add( root.getReferencedPathSource() );
+			}
+			declare( root );
+		}
+
+		private void declareJoin(SqmJoin<?, ?> join) {
+			if ( join.isCorrelated() ) {
+				unsupported();
+			}
+			else if ( join instanceof SqmAttributeJoin<?, ?> ) {
+				final SqmAttributeJoin<?, ?> attributeJoin = (SqmAttributeJoin<?, ?>) join;
+				add( join.getClass() );
+				add( join.getReferencedPathSource() );
+				add( join.getSqmJoinType() );
+				add( attributeJoin.isFetched() );
+				visitNullable( attributeJoin.getJoinPredicate() );
+			}
+			else if ( join instanceof SqmEntityJoin<?> ) {
+				add( join.getClass() );
+				add( join.getReferencedPathSource() );
+				add( join.getSqmJoinType() );
+				visitNullable( ( (SqmEntityJoin<?>) join ).getJoinPredicate() );
+			}
+			else if ( join instanceof SqmCrossJoin<?> ) {
+				add( join.getClass() );
+				add( join.getReferencedPathSource() );
+			}
+			else {
+				unsupported();
+			}
+			declare( join );
+		}
+
+		private void declare(SqmFrom<?, ?> from) {
+			if ( from.hasTreats() ) {
+				unsupported();
+			}
+			add( from.getExplicitAlias() );
+			fromOrdinals.put( from, fromOrdinals.size() );
+			final List<? extends SqmJoin<?, ?>> joins = from.getSqmJoins();
+			add( joins.size() );
+			for ( SqmJoin<?, ?> join : joins ) {
+				declareJoin( join );
+			}
+		}
+
+		private Object visitReference(SqmFrom<?, ?> from) {
+			final Integer ordinal = fromOrdinals.get( from );
+			if ( ordinal == null ) {
+				return unsupported();
+			}
+			add( SqmFrom.class );
+			add( ordinal );
+			return null;
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			return visitReference( sqmRoot );
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			return visitReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			return visitReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			return visitReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			return visitReference( correlation );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Paths
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			visitPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			visitPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			visitPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			visitPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			visitPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitDiscriminatorPath(EntityDiscriminatorSqmPath sqmPath) {
+			add( sqmPath.getClass() );
+			sqmPath.getLhs().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			add( function.getClass() );
+			function.getPluralPath().accept( this );
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Expressions
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer ordinal = parameterOrdinals.get( expression );
+			if ( ordinal == null ) {
+				ordinal = parameters.size();
+				parameterOrdinals.put( expression, ordinal );
+				parameters.add( expression );
+			}
+			visitExpression( expression );
+			add( ordinal );
+			add( expression.getAnticipatedType() );
+			add( expression.allowsMultiValuedBinding() );
+			return null;
+		}
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			visitExpression( literal );
+			add( literal.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			visitExpression( sqmEnumLiteral );
+			add( sqmEnumLiteral.getEnumValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			return visitLiteral( sqmCollate );
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			return visitLiteral( sqmFormat );
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			visitExpression( expression );
+			return null;
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			visitExpression( sqmTuple );
+			visitNodes( sqmTuple.getGroupedExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			visitExpression( expression );
+			add( expression.getOperator() );
+			expression.getLeftHandOperand().accept( this );
+			expression.getRightHandOperand().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			visitExpression( expression );
+			add( expression.getOperation() );
+			expression.getOperand().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> tSqmFunction) {
+			if ( tSqmFunction instanceof SqmWindowFunction<?>
+					|| tSqmFunction instanceof SqmOrderedSetAggregateFunction<?> ) {
+				return unsupported();
+			}
+			visitExpression( tSqmFunction );
+			add( tSqmFunction.getFunctionName() );
+			add( tSqmFunction.getArguments().size() );
+			for ( Object argument : tSqmFunction.getArguments() ) {
+				if ( !( argument instanceof SqmVisitableNode ) ) {
+					return unsupported();
+				}
+				( (SqmVisitableNode) argument ).accept( this );
+			}
+			if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+				visitNullable( ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			add( extractUnit.getClass() );
+			add( extractUnit.getUnit() );
+			add( extractUnit.getType() );
+			return null;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+			add( sqmCastTarget.getClass() );
+			add( sqmCastTarget.getType() );
+			add( sqmCastTarget.getLength() );
+			add( sqmCastTarget.getPrecision() );
+			add( sqmCastTarget.getScale() );
+			return null;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			add( trimSpecification.getClass() );
+			add( trimSpecification.getSpecification() );
+			return null;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			add( distinct.getClass() );
+			distinct.getExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			add( sqmStar.getClass() );
+			return null;
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			visitExpression( sqmCoalesce );
+			visitNodes( sqmCoalesce.getArguments() );
+			return null;
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			visitExpression( toDuration );
+			toDuration.getMagnitude().accept( this );
+			toDuration.getUnit().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit sqmByUnit) {
+			visitExpression( sqmByUnit );
+			sqmByUnit.getDuration().accept( this );
+			sqmByUnit.getUnit().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			add( durationUnit.getClass() );
+			add( durationUnit.getUnit() );
+			add( durationUnit.getType() );
+			return null;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			visitExpression( expression );
+			expression.getFixture().accept( this );
+			add( expression.getWhenFragments().size() );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				whenFragment.getCheckValue().accept( this );
+				whenFragment.getResult().accept( this );
+			}
+			visitNullable( expression.getOtherwise() );
+			return null;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			visitExpression( expression );
+			add( expression.getWhenFragments().size() );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				whenFragment.getPredicate().accept( this );
+				whenFragment.getResult().accept( this );
+			}
+			visitNullable( expression.getOtherwise() );
+			return null;
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			visitExpression( expression );
+			add( expression.getModifier() );
+			expression.getSubQuery().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			visitExpression( sqmAny );
+			sqmAny.getSubquery().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			visitExpression( sqmEvery );
+			sqmEvery.getSubquery().accept( this );
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Predicates
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getSubPredicate().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+			visitPredicate( predicate );
+			add( predicate.getOperator() );
+			visitNodes( predicate.getPredicates() );
+			return null;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			visitPredicate( predicate );
+			add( predicate.getSqmOperator() );
+			predicate.getLeftHandExpression().accept( this );
+			predicate.getRightHandExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getPluralPath().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getExpression().accept( this );
+			predicate.getLowerBound().accept( this );
+			predicate.getUpperBound().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			visitPredicate( predicate );
+			add( predicate.isCaseSensitive() );
+			predicate.getMatchExpression().accept( this );
+			predicate.getPattern().accept( this );
+			visitNullable( predicate.getEscapeCharacter() );
+			return null;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getLeftHandExpression().accept( this );
+			predicate.getPluralPath().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getWrappedPredicate().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			visitPredicate( predicate );
+			predicate.getTestExpression().accept( this );
+			visitNodes( predicate.getListExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			visitPredicate( predicate );
+			predicate.getTestExpression().accept( this );
+			predicate.getSubQueryExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			visitPredicate( predicate );
+			predicate.getBooleanExpression().accept( this );
+			return null;
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+			visitPredicate( sqmExistsPredicate );
+			sqmExistsPredicate.getExpression().accept( this );
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Unsupported nodes
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment<?> assignment) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteContainer(SqmCteContainer consumer) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitOver(SqmOver<?> over) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitWindow(SqmWindow widow) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			return unsupported();
+		}
+	}
+}
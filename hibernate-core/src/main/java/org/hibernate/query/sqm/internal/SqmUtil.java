@@ -20,6 +20,7 @@ import java.util.function.Function;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
@@ -182,6 +183,26 @@ public class SqmUtil {
 //		);
 //	}
 
+	/**
+	 * The number of parameters the single multi-valued parameter of an IN list with the
+	 * given number of bind values is expanded to. With
+	 * {@linkplain org.hibernate.boot.spi.SessionFactoryOptions#inClauseParameterPaddingEnabled()
+	 * IN clause parameter padding} the expansion is padded to the next power of two, unless
+	 * that exceeds the {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit()
+	 * limit} of the Dialect, so that IN lists with a similar number of bind values share
+	 * their translation.
+	 */
+	public static int determineInListExpansionCount(int bindValueCount, SessionFactoryImplementor factory) {
+		if ( bindValueCount > 2 && factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			final int paddedCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+			if ( inExprLimit <= 0 || paddedCount <= inExprLimit ) {
+				return paddedCount;
+			}
+		}
+		return bindValueCount;
+	}
+
 	public static JdbcParameterBindings createJdbcParameterBindings(
 			QueryParameterBindings domainParamBindings,
 			DomainParameterXref domainParameterXref,
@@ -240,35 +261,40 @@ public class SqmUtil {
 					final Iterator<?> valueItr = bindValues.iterator();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
+					Object bindValue = null;
 					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 						final List<JdbcParameter> jdbcParams = jdbcParamsBinds.get( i );
+						bindValue = valueItr.next();
 						createValueBindings(
 								jdbcParameterBindings,
 								queryParam,
 								domainParamBinding,
 								parameterType,
 								jdbcParams,
-								valueItr.next(),
+								bindValue,
 								tableGroupLocator,
 								session
 						);
 					}
 
-					// an then one for each of the expansions
+					// an then one for each of the expansions, of which there might be more
+					// than bind values when the IN list was padded, in which case the last
+					// bind value is repeated
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition++ );
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( SqmParameter<?> expansionSqmParam : expansions ) {
 						final List<List<JdbcParameter>> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							List<JdbcParameter> expansionJdbcParams = jdbcParamBinds.get( i );
+							if ( valueItr.hasNext() ) {
+								bindValue = valueItr.next();
+							}
 							createValueBindings(
 									jdbcParameterBindings,
 									queryParam, domainParamBinding,
 									parameterType,
 									expansionJdbcParams,
-									valueItr.next(),
+									bindValue,
 									tableGroupLocator,
 									session
 							);
@@ -392,6 +392,13 @@ public class CteInsertHandler implements InsertHandler {
 			);
 			final CteColumn idColumn = fullEntityCteTable.getCteColumns().get( 0 );
 			final BasicValuedMapping idType = (BasicValuedMapping) idColumn.getJdbcMapping();
+			if ( !( entityDescriptor.getGenerator() instanceof OptimizableGenerator ) ) {
+				// this strategy can only obtain new identifiers via a SQL expression
+				throw new SemanticException(
+						"SQM INSERT-SELECT with CTE insert strategy requires a sequence or table based identifier generator: "
+								+ entityDescriptor.getGenerator()
+				);
+			}
 			final Optimizer optimizer = ( (OptimizableGenerator) entityDescriptor.getGenerator() ).getOptimizer();
 			final BasicValuedMapping integerType = (BasicValuedMapping) rowNumberColumn.getJdbcMapping();
 			final Expression rowNumberMinusOneModuloIncrement = new BinaryArithmeticExpression(
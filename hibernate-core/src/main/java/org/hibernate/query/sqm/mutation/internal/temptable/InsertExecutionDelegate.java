@@ -649,7 +649,10 @@ public class InsertExecutionDelegate implements TableBasedInsertHandler.Executio
 									.supportsBulkInsertionIdentifierGeneration();
 		}
 		else {
-			return false;
+			// A generator of in-memory values, for example, UUIDs
+			return identifierGenerator instanceof BulkInsertionCapableIdentifierGenerator
+					&& !( (BulkInsertionCapableIdentifierGenerator) identifierGenerator )
+							.supportsBulkInsertionIdentifierGeneration();
 		}
 	}
 
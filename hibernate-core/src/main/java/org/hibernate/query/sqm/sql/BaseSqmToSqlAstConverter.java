@@ -135,6 +135,7 @@ import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpr
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.mutation.internal.SqmInsertStrategyHelper;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
@@ -1479,23 +1480,23 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 						throw new SemanticException(
 								"SQM INSERT-SELECT without bulk insertion capable identifier generator: " + identifierGenerator );
 					}
-					if ( identifierGenerator instanceof OptimizableGenerator ) {
-						final Optimizer optimizer = ( (OptimizableGenerator) identifierGenerator ).getOptimizer();
-						if ( optimizer != null && optimizer.getIncrementSize() > 1
-								|| !( (BulkInsertionCapableIdentifierGenerator) identifierGenerator ).supportsBulkInsertionIdentifierGeneration() ) {
-							// This is a special case where we have a sequence with an optimizer
-							// or a table based identifier generator
-							if ( !sessionFactory.getJdbcServices().getDialect().supportsWindowFunctions() ) {
-								return false;
-							}
-							identifierSelection = new SqlSelectionImpl(
-									1,
-									0,
-									SqmInsertStrategyHelper.createRowNumberingExpression( querySpec, sessionFactory )
-							);
-							selectClause.addSqlSelection( identifierSelection );
-							return true;
+					final Optimizer optimizer = identifierGenerator instanceof OptimizableGenerator
+							? ( (OptimizableGenerator) identifierGenerator ).getOptimizer()
+							: null;
+					if ( optimizer != null && optimizer.getIncrementSize() > 1
+							|| !( (BulkInsertionCapableIdentifierGenerator) identifierGenerator ).supportsBulkInsertionIdentifierGeneration() ) {
+						// This is a special case where we have a sequence with an optimizer,
+						// a table based identifier generator, or a generator of in-memory values
+						if ( !sessionFactory.getJdbcServices().getDialect().supportsWindowFunctions() ) {
+							return false;
 						}
+						identifierSelection = new SqlSelectionImpl(
+								1,
+								0,
+								SqmInsertStrategyHelper.createRowNumberingExpression( querySpec, sessionFactory )
+						);
+						selectClause.addSqlSelection( identifierSelection );
+						return true;
 					}
 					final String fragment = ( (BulkInsertionCapableIdentifierGenerator) identifierGenerator )
 							.determineBulkInsertionIdentifierGenerationSelectFragment(
@@ -7020,7 +7021,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
-		final Iterator<?> iterator = domainParamBinding.getBindValues().iterator();
+		final Collection<?> bindValues = domainParamBinding.getBindValues();
 
 		final InListPredicate inListPredicate = new InListPredicate(
 				(Expression) sqmPredicate.getTestExpression().accept( this ),
@@ -7030,7 +7031,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 		final FromClauseIndex fromClauseIndex = fromClauseIndexStack.getCurrent();
 
-		if ( !iterator.hasNext() ) {
+		if ( bindValues.isEmpty() ) {
 			domainParamBinding.setType( (MappingModelExpressible) determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex ) );
 			return inListPredicate;
 		}
@@ -7041,12 +7042,14 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 		try {
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
-				// for each bind value create an "expansion"
+			final int expansionCount = SqmUtil.determineInListExpansionCount(
+					bindValues.size(),
+					creationContext.getSessionFactory()
+			);
+			for ( int i = 1; i < expansionCount; i++ ) {
+				// for each bind value, and any padding, create an "expansion"
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addInListExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
 			return inListPredicate;
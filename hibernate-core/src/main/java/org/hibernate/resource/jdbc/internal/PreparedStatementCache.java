@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps the query statements prepared on a physical JDBC connection open after they
+ * are released, so that executing the same SQL again on that connection does not
+ * prepare it again.
+ * <p>
+ * Statements are keyed by their SQL, result set type and whether they are callable.
+ * A statement is removed from the cache while it is in use, and put back when the
+ * {@link ResourceRegistryStandardImpl} releases it. The least recently used idle
+ * statement is closed when the cache is full. All idle statements are closed by
+ * {@link #clear()}, which must happen before the physical connection is released.
+ * <p>
+ * Like the {@link ResourceRegistryStandardImpl}, this class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, PreparedStatement> idle;
+	private final IdentityHashMap<PreparedStatement, InUse> inUse = new IdentityHashMap<>();
+
+	private long hitCount;
+	private long missCount;
+
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.idle = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > PreparedStatementCache.this.maxSize ) {
+					ResourceRegistryStandardImpl.close( eldest.getValue() );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Take an idle statement out of the cache
+	 *
+	 * @return the statement, or {@code null} if a new statement must be prepared
+	 * and then {@linkplain #track tracked}
+	 */
+	public PreparedStatement take(String sql, int resultSetType, boolean callable) {
+		final Key key = new Key( sql, resultSetType, callable );
+		final PreparedStatement statement = idle.remove( key );
+		if ( statement == null ) {
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		inUse.put( statement, new InUse( key, getFetchSize( statement ) ) );
+		return statement;
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is kept by the cache once released
+	 */
+	public void track(PreparedStatement statement, String sql, int resultSetType, boolean callable) {
+		inUse.put( statement, new InUse( new Key( sql, resultSetType, callable ), getFetchSize( statement ) ) );
+	}
+
+	/**
+	 * Offer a released statement to the cache
+	 *
+	 * @return {@code true} if the statement is kept by the cache, and must not be closed
+	 */
+	public boolean offer(PreparedStatement statement) {
+		final InUse entry = inUse.remove( statement );
+		if ( entry == null ) {
+			return false;
+		}
+		if ( idle.containsKey( entry.key ) || !reset( statement, entry.fetchSize ) ) {
+			return false;
+		}
+		idle.put( entry.key, statement );
+		return true;
+	}
+
+	/**
+	 * Close all idle statements
+	 */
+	public void clear() {
+		if ( !idle.isEmpty() ) {
+			log.tracef( "Closing %s cached statements (%s hits, %s misses)", idle.size(), hitCount, missCount );
+			for ( Iterator<PreparedStatement> iterator = idle.values().iterator(); iterator.hasNext(); ) {
+				ResourceRegistryStandardImpl.close( iterator.next() );
+				iterator.remove();
+			}
+		}
+		inUse.clear();
+	}
+
+	public int size() {
+		return idle.size();
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	private static int getFetchSize(PreparedStatement statement) {
+		try {
+			return statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Undo whatever the last execution applied to the statement
+	 */
+	private static boolean reset(PreparedStatement statement, int fetchSize) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != fetchSize ) {
+				statement.setFetchSize( fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static final class InUse {
+		private final Key key;
+		private final int fetchSize;
+
+		private InUse(Key key, int fetchSize) {
+			this.key = key;
+			this.fetchSize = fetchSize;
+		}
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final boolean callable;
+		private final int hashCode;
+
+		private Key(String sql, int resultSetType, boolean callable) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.callable = callable;
+			this.hashCode = Objects.hash( sql, resultSetType, callable );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return resultSetType == key.resultSetType
+					&& callable == key.callable
+					&& sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -50,6 +51,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -65,7 +67,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache The cache which released query statements are returned to
+	 * instead of being closed, or {@code null}
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -105,7 +116,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -160,9 +171,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null
+				|| !( statement instanceof PreparedStatement )
+				|| !statementCache.offer( (PreparedStatement) statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -332,7 +351,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
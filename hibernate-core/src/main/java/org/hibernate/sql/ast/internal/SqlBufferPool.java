@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.internal;
+
+/**
+ * A small per-thread pool of the {@link StringBuilder}s used by SQL AST translators
+ * to render SQL, so that a translation starts with a buffer which is already large
+ * enough instead of growing a new one from its default capacity.
+ * <p>
+ * Translators may be nested, so each thread keeps a few buffers. Buffers which
+ * grew beyond {@link #MAX_RETAINED_CAPACITY} are dropped rather than retained.
+ */
+public final class SqlBufferPool {
+	private static final int INITIAL_CAPACITY = 512;
+	private static final int MAX_RETAINED_CAPACITY = 32 * 1024;
+	private static final int MAX_POOLED = 4;
+
+	private static final ThreadLocal<SqlBufferPool> POOL = ThreadLocal.withInitial( SqlBufferPool::new );
+
+	private final StringBuilder[] buffers = new StringBuilder[MAX_POOLED];
+	private int size;
+
+	private SqlBufferPool() {
+	}
+
+	/**
+	 * An empty buffer, owned by the caller until it is {@linkplain #release released}
+	 */
+	public static StringBuilder acquire() {
+		final SqlBufferPool pool = POOL.get();
+		if ( pool.size == 0 ) {
+			return new StringBuilder( INITIAL_CAPACITY );
+		}
+		final StringBuilder buffer = pool.buffers[--pool.size];
+		pool.buffers[pool.size] = null;
+		return buffer;
+	}
+
+	/**
+	 * Return a buffer to the pool of the current thread. The buffer must not be used afterwards.
+	 */
+	public static void release(StringBuilder buffer) {
+		if ( buffer.capacity() > MAX_RETAINED_CAPACITY ) {
+			return;
+		}
+		final SqlBufferPool pool = POOL.get();
+		if ( pool.size < MAX_POOLED ) {
+			buffer.setLength( 0 );
+			pool.buffers[pool.size++] = buffer;
+		}
+	}
+}
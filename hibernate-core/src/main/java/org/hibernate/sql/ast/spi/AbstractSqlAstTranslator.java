@@ -85,6 +85,7 @@ import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlTreeCreationException;
 import org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard;
+import org.hibernate.sql.ast.internal.SqlBufferPool;
 import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.SqlAstNode;
 import org.hibernate.sql.ast.tree.Statement;
@@ -173,7 +174,6 @@ import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcOperationQueryInsertImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
-import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
@@ -267,10 +267,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	private final SessionFactoryImplementor sessionFactory;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	// borrowed from the SqlBufferPool of the current thread, and given back on cleanup()
+	private StringBuilder sqlBuffer = SqlBufferPool.acquire();
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
-	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
 	private JdbcParameterBindings jdbcParameterBindings;
 	private Map<JdbcParameter, JdbcParameterBinding> appliedParameterBindings = Collections.emptyMap();
 	private SqlAstNodeRenderingMode parameterRenderingMode = SqlAstNodeRenderingMode.DEFAULT;
@@ -449,6 +449,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		this.limit = null;
 		setOffsetParameter( null );
 		setLimitParameter( null );
+		if ( sqlBuffer != null ) {
+			SqlBufferPool.release( sqlBuffer );
+			sqlBuffer = null;
+		}
 	}
 
 	public List<JdbcParameterBinder> getParameterBinders() {
@@ -4011,7 +4015,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				appendSql( PARAM_MARKER );
 				final JdbcParameter offsetParameter = (JdbcParameter) offsetClauseExpression;
 				final int offsetValue = offset + fetchCount.intValue();
-				jdbcParameters.addParameter( offsetParameter );
 				parameterBinders.add(
 						(statement, startPosition, jdbcParameterBindings, executionContext) -> {
 							final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( offsetParameter );
@@ -4042,7 +4045,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			// We don't register and bind the special OffsetJdbcParameter as that comes from the query options
 			// And in this case, we only want to bind a single JDBC parameter
 			if ( !( offsetParameter instanceof OffsetJdbcParameter ) ) {
-				jdbcParameters.addParameter( offsetParameter );
 				parameterBinders.add(
 						(statement, startPosition, jdbcParameterBindings, executionContext) -> {
 							final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( offsetParameter );
@@ -4053,7 +4055,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 						}
 				);
 			}
-			jdbcParameters.addParameter( fetchParameter );
 			parameterBinders.add( fetchBinder );
 		}
 	}
@@ -6185,7 +6186,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	protected void visitParameterAsParameter(JdbcParameter jdbcParameter) {
 		renderParameterAsParameter( jdbcParameter );
 		parameterBinders.add( jdbcParameter.getParameterBinder() );
-		jdbcParameters.addParameter( jdbcParameter );
 	}
 
 	protected final void renderParameterAsParameter(JdbcParameter jdbcParameter) {
@@ -6690,23 +6690,32 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		if ( value instanceof Iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, ( (Iterable<?>) value ).iterator() );
+			processIterableFilterParameterValue( parameter, ( (Iterable<?>) value ).iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, -1, value );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(FilterFragmentParameter parameter, int valueIndex, Object value) {
+		visitParameterAsParameter(
+				new FilterJdbcParameter(
+						parameter.getFilterName(),
+						parameter.getParameterName(),
+						valueIndex,
+						parameter.getValueMapping(),
+						value
+				)
+		);
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
+	private void processIterableFilterParameterValue(FilterFragmentParameter parameter, Iterator<?> iterator) {
+		int valueIndex = 0;
 		while ( iterator.hasNext() ) {
 			final Object element = iterator.next();
-			processSingularFilterParameterValue( valueMapping, element );
+			processSingularFilterParameterValue( parameter, valueIndex++, element );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
@@ -7860,7 +7869,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	@Override
 	public void visitCustomTableInsert(TableInsertCustomSql tableInsert) {
-		assert sqlBuffer.toString().isEmpty();
+		assert sqlBuffer.length() == 0;
 		sqlBuffer.append( tableInsert.getCustomSql() );
 
 		tableInsert.forEachParameter( this::applyParameter );
@@ -7949,7 +7958,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	@Override
 	public void visitCustomTableUpdate(TableUpdateCustomSql tableUpdate) {
-		assert sqlBuffer.toString().isEmpty();
+		assert sqlBuffer.length() == 0;
 		sqlBuffer.append( tableUpdate.getCustomSql() );
 
 		tableUpdate.forEachParameter( this::applyParameter );
@@ -8009,7 +8018,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	@Override
 	public void visitCustomTableDelete(TableDeleteCustomSql tableDelete) {
-		assert sqlBuffer.toString().isEmpty();
+		assert sqlBuffer.length() == 0;
 		sqlBuffer.append( tableDelete.getCustomSql() );
 
 		tableDelete.forEachParameter( this::applyParameter );
@@ -8018,7 +8027,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	protected void applyParameter(ColumnValueParameter parameter) {
 		assert parameter != null;
 		parameterBinders.add( parameter.getParameterBinder() );
-		jdbcParameters.addParameter( parameter );
 	}
 
 	@Override
@@ -8058,7 +8066,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		for ( ColumnValueParameter parameter : columnWriteFragment.getParameters() ) {
 			parameterBinders.add( parameter.getParameterBinder() );
-			jdbcParameters.addParameter( parameter );
 		}
 	}
 }
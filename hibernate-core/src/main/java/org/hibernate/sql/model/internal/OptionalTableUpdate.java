@@ -119,6 +119,19 @@ public class OptionalTableUpdate
 		forEachThing( valueBindings, consumer );
 	}
 
+	/**
+	 * Whether the {@linkplain #getOptimisticLockBindings() optimistic lock restrictions}
+	 * must be applied to the update of an existing row.
+	 * <p>
+	 * This is only the case when the table is not optional, that is, when the row being
+	 * upserted is the mandatory row of an entity, as built by a
+	 * {@link org.hibernate.sql.model.ast.builder.TableMergeBuilder}.
+	 */
+	public boolean hasOptimisticLockRestrictions() {
+		return getNumberOfOptimisticLockBindings() > 0
+				&& !getMutatingTable().getTableMapping().isOptional();
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		throw new UnsupportedOperationException();
@@ -8,6 +8,7 @@ package org.hibernate.sql.model.jdbc;
 
 import java.util.List;
 
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
@@ -25,7 +26,16 @@ public class MergeOperation extends AbstractJdbcMutation {
 			MutationTarget<?> mutationTarget,
 			String sql,
 			List<? extends JdbcParameterBinder> parameterBinders) {
-		super( tableDetails, mutationTarget, sql, false, Expectations.NONE, parameterBinders );
+		this( tableDetails, mutationTarget, sql, Expectations.NONE, parameterBinders );
+	}
+
+	public MergeOperation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders) {
+		super( tableDetails, mutationTarget, sql, false, expectation, parameterBinders );
 	}
 
 	@Override
@@ -75,6 +75,15 @@ public interface Initializer {
 		// by default - nothing to do
 	}
 
+	/**
+	 * Whether this initializer may be used again for another execution of the
+	 * same query once {@link #endLoading} completed, which is the case when
+	 * all state it keeps is reset by {@link #finishUpRow} or {@link #endLoading}.
+	 */
+	default boolean isReusable() {
+		return false;
+	}
+
 	default boolean isAttributeAssignableToConcreteDescriptor(
 			FetchParentAccess parentAccess,
 			AttributeMapping referencedModelPart) {
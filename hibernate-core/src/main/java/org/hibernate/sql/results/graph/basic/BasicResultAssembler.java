@@ -94,6 +94,23 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the raw value in the JDBC values array
+	 */
+	@Internal
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
+	/**
+	 * Whether {@link #assemble} returns the {@linkplain #extractRawValue raw value}
+	 * as is, which allows reading that value directly from the JDBC values array
+	 */
+	@Internal
+	public boolean isPassThrough() {
+		return valueConverter == null;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
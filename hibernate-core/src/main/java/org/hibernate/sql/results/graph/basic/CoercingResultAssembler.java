@@ -35,4 +35,9 @@ public class CoercingResultAssembler<J> extends BasicResultAssembler<J> {
 				rowProcessingState.getSession()
 		);
 	}
+
+	@Override
+	public boolean isPassThrough() {
+		return false;
+	}
 }
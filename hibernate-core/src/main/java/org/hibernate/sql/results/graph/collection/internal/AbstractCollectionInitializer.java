@@ -186,6 +186,11 @@ public abstract class AbstractCollectionInitializer implements CollectionInitial
 		return collectionKey;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		collectionKey = null;
@@ -501,6 +501,11 @@ public abstract class AbstractEmbeddableInitializer extends AbstractFetchParentA
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		compositeInstance = null;
@@ -62,4 +62,10 @@ public class AggregateEmbeddableResultInitializer extends AbstractEmbeddableInit
 		return nestedRowProcessingState = NestedRowProcessingState.wrap( this, processingState );
 	}
 
+	@Override
+	public boolean isReusable() {
+		// the wrapped processing state belongs to the execution
+		return false;
+	}
+
 }
@@ -45,6 +45,7 @@ import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.proxy.map.MapProxy;
 import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.graph.AbstractFetchParentAccess;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -91,6 +92,13 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	private final DomainResultAssembler<Object> rowIdAssembler;
 
 	private final DomainResultAssembler<?>[][] assemblers;
+	// the JDBC values array position of the state values which are read as is,
+	// or -1 for state values that need their assembler, per subclass id
+	private final int[][] passThroughPositions;
+
+	// whether rows can share the entity of the previous row, which is not
+	// the case for scrolls, as the session might be cleared between rows
+	private final boolean reusePreviousRowEntity;
 
 	// per-row state
 	private EntityPersister concreteDescriptor;
@@ -103,6 +111,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	private boolean isOwningInitializer;
 	private Object[] resolvedEntityState;
 
+	// the entity resolved by the previous row
+	private EntityKey previousRowEntityKey;
+	private Object previousRowEntityInstance;
+	private Object previousRowEntityInstanceForNotify;
+
 	// todo (6.0) : ^^ need a better way to track whether we are loading the entity state or if something else is/has
 
 	protected AbstractEntityInitializer(
@@ -126,6 +139,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		this.navigablePath = navigablePath;
 		this.lockMode = lockMode;
 		assert lockMode != null;
+		this.reusePreviousRowEntity = !creationState.isScrollResult();
 
 		identifierAssembler = identifierFetch != null
 				? identifierFetch.createAssembler( this, creationState )
@@ -176,6 +190,28 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				assemblers[subMappingType.getSubclassId()][stateArrayPosition] = stateAssembler;
 			}
 		}
+
+		passThroughPositions = new int[assemblers.length][];
+		for ( int i = 0; i < assemblers.length; i++ ) {
+			if ( assemblers[i] != null ) {
+				passThroughPositions[i] = resolvePassThroughPositions( assemblers[i] );
+			}
+		}
+	}
+
+	private static int[] resolvePassThroughPositions(DomainResultAssembler<?>[] assemblers) {
+		final int[] positions = new int[assemblers.length];
+		for ( int i = 0; i < assemblers.length; i++ ) {
+			final DomainResultAssembler<?> assembler = assemblers[i];
+			if ( assembler instanceof BasicResultAssembler<?>
+					&& ( (BasicResultAssembler<?>) assembler ).isPassThrough() ) {
+				positions[i] = ( (BasicResultAssembler<?>) assembler ).getValuesArrayPosition();
+			}
+			else {
+				positions[i] = -1;
+			}
+		}
+		return positions;
 	}
 
 	private static void deepCopy(ManagedMappingType containerDescriptor, Object[] source, Object[] target) {
@@ -301,11 +337,25 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 								entityKey.getIdentifier()
 						);
 					}
+					if ( entityKey.equals( previousRowEntityKey ) ) {
+						resolvePreviousRowEntity();
+					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Consecutive rows with the same entity, e.g. the rows of a fetched collection,
+	 * share the entity resolved and initialized by the first of those rows
+	 */
+	private void resolvePreviousRowEntity() {
+		entityInstance = previousRowEntityInstance;
+		entityInstanceForNotify = previousRowEntityInstanceForNotify;
+		isInitialized = true;
+		notifyResolutionListeners( entityInstanceForNotify );
+	}
+
 	private EntityPersister determineConcreteEntityDescriptor(RowProcessingState rowProcessingState)
 			throws WrongClassException {
 		if ( discriminatorAssembler == null ) {
@@ -1016,9 +1066,17 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	protected Object[] extractConcreteTypeStateValues(RowProcessingState rowProcessingState) {
 		final Object[] values = new Object[concreteDescriptor.getNumberOfAttributeMappings()];
 		final DomainResultAssembler<?>[] concreteAssemblers = assemblers[concreteDescriptor.getSubclassId()];
+		final int[] concretePassThroughPositions = passThroughPositions[concreteDescriptor.getSubclassId()];
 		for ( int i = 0; i < values.length; i++ ) {
-			final DomainResultAssembler<?> assembler = concreteAssemblers[i];
-			values[i] = assembler == null ? UNFETCHED_PROPERTY : assembler.assemble( rowProcessingState );
+			final int position = concretePassThroughPositions[i];
+			if ( position >= 0 ) {
+				// avoid the call through the assembler for the common case of plain basic attributes
+				values[i] = rowProcessingState.getJdbcValue( position );
+			}
+			else {
+				final DomainResultAssembler<?> assembler = concreteAssemblers[i];
+				values[i] = assembler == null ? UNFETCHED_PROPERTY : assembler.assemble( rowProcessingState );
+			}
 		}
 		return values;
 	}
@@ -1133,6 +1191,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		return assemblers;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		final SharedSessionContractImplementor session = rowProcessingState.getSession();
@@ -1147,6 +1210,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			);
 		}
 
+		if ( reusePreviousRowEntity && !missing && isInitialized && entityInstance != null ) {
+			previousRowEntityKey = entityKey;
+			previousRowEntityInstance = entityInstance;
+			previousRowEntityInstanceForNotify = entityInstanceForNotify != null ? entityInstanceForNotify : entityInstance;
+		}
+		else {
+			clearPreviousRowEntity();
+		}
+
 		// reset row state
 		isOwningInitializer = false;
 		concreteDescriptor = null;
@@ -1159,4 +1231,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		isInitialized = false;
 		clearResolutionListeners();
 	}
+
+	@Override
+	public void endLoading(ExecutionContext context) {
+		clearPreviousRowEntity();
+	}
+
+	private void clearPreviousRowEntity() {
+		previousRowEntityKey = null;
+		previousRowEntityInstance = null;
+		previousRowEntityInstanceForNotify = null;
+	}
 }
@@ -200,6 +200,11 @@ public class EntityDelayedFetchInitializer extends AbstractFetchParentAccess imp
 		// nothing to do
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		entityInstance = null;
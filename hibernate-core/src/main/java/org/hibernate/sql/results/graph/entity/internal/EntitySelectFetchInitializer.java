@@ -215,6 +215,11 @@ public class EntitySelectFetchInitializer extends AbstractFetchParentAccess impl
 		return isAttributeAssignableToConcreteDescriptor( parentAccess, toOneMapping );
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		entityInstance = null;
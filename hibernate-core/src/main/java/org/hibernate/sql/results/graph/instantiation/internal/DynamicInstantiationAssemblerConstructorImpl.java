@@ -22,7 +22,7 @@ import org.hibernate.type.descriptor.java.JavaType;
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
-	private final List<ArgumentReader<?>> argumentReaders;
+	private final ArgumentReader<?>[] argumentReaders;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -30,7 +30,7 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
-		this.argumentReaders = argumentReaders;
+		this.argumentReaders = argumentReaders.toArray( new ArgumentReader<?>[0] );
 	}
 
 	@Override
@@ -42,10 +42,10 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	public R assemble(
 			RowProcessingState rowProcessingState,
 			JdbcValuesSourceProcessingOptions options) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
+		final int numberOfArgs = argumentReaders.length;
+		final Object[] args = new Object[ numberOfArgs ];
 		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState, options );
+			args[i] = argumentReaders[i].assemble( rowProcessingState, options );
 		}
 
 		try {
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+
+/**
+ * The assemblers and initializers resolved for a
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}, which
+ * {@link ResultsHelper#createRowReader} keeps with the mapping between
+ * executions when all initializers are {@linkplain InitializersList#isReusable() reusable}.
+ * <p>
+ * A graph is used by a single {@link StandardRowReader} at a time.
+ */
+public final class InitializerGraph {
+	private final List<DomainResultAssembler<?>> assemblers;
+	private final InitializersList initializers;
+
+	public InitializerGraph(List<DomainResultAssembler<?>> assemblers, InitializersList initializers) {
+		this.assemblers = assemblers;
+		this.initializers = initializers;
+	}
+
+	public List<DomainResultAssembler<?>> getAssemblers() {
+		return assemblers;
+	}
+
+	public InitializersList getInitializers() {
+		return initializers;
+	}
+}
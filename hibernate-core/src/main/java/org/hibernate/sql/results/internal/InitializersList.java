@@ -35,6 +35,7 @@ public final class InitializersList {
 	private final Initializer[] sortedNonCollectionsFirst;
 	private final Initializer[] sortedForResolveInstance;
 	private final boolean hasCollectionInitializers;
+	private final boolean reusable;
 	private final Map<NavigablePath, Initializer> initializerMap;
 
 	private InitializersList(
@@ -42,11 +43,13 @@ public final class InitializersList {
 			Initializer[] sortedNonCollectionsFirst,
 			Initializer[] sortedForResolveInstance,
 			boolean hasCollectionInitializers,
+			boolean reusable,
 			Map<NavigablePath, Initializer> initializerMap) {
 		this.initializers = initializers;
 		this.sortedNonCollectionsFirst = sortedNonCollectionsFirst;
 		this.sortedForResolveInstance = sortedForResolveInstance;
 		this.hasCollectionInitializers = hasCollectionInitializers;
+		this.reusable = reusable;
 		this.initializerMap = initializerMap;
 	}
 
@@ -89,10 +92,25 @@ public final class InitializersList {
 		}
 	}
 
+	/**
+	 * Whether there are no initializers at all, i.e. the results are scalar values
+	 * or dynamic instantiations of scalar values
+	 */
+	public boolean isEmpty() {
+		return initializers.length == 0;
+	}
+
 	public boolean hasCollectionInitializers() {
 		return this.hasCollectionInitializers;
 	}
 
+	/**
+	 * Whether all initializers are {@linkplain Initializer#isReusable() reusable}
+	 */
+	public boolean isReusable() {
+		return reusable;
+	}
+
 	static class Builder {
 		private ArrayList<Initializer> initializers = new ArrayList<>();
 		int nonCollectionInitializersNum = 0;
@@ -129,8 +147,10 @@ public final class InitializersList {
 			int collectionIdx = nonCollectionInitializersNum;
 			int resolveFirstIdx = 0;
 			int resolveLaterIdx = resolveFirstNum;
+			boolean reusable = true;
 			final Initializer[] originalSortInitializers = toArray( initializers );
 			for ( Initializer initializer : originalSortInitializers ) {
+				reusable = reusable && initializer.isReusable();
 				if ( initializer.isCollectionInitializer() ) {
 					sortedNonCollectionsFirst[collectionIdx++] = initializer;
 				}
@@ -150,6 +170,7 @@ public final class InitializersList {
 					sortedNonCollectionsFirst,
 					sortedForResolveInstance,
 					hasCollectionInitializers,
+					reusable,
 					initializerMap
 			);
 		}
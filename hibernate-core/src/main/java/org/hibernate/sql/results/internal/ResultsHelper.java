@@ -38,6 +38,7 @@ import org.hibernate.pretty.MessageHelper;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping;
 import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
@@ -72,6 +73,18 @@ public class ResultsHelper {
 			JdbcValuesMapping jdbcValuesMapping) {
 		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
 
+		// The initializers only depend on the mapping, the lock modes and whether this is a scroll,
+		// so without locking, the graph of a previous non-scroll execution can be used again
+		final StandardJdbcValuesMapping graphOwner = canReuseInitializerGraph( executionContext, lockOptions, jdbcValuesMapping )
+				? (StandardJdbcValuesMapping) jdbcValuesMapping
+				: null;
+		if ( graphOwner != null ) {
+			final InitializerGraph graph = graphOwner.takeInitializerGraph();
+			if ( graph != null ) {
+				return new StandardRowReader<>( graph, graphOwner, rowTransformer, transformedResultJavaType );
+			}
+		}
+
 		final Map<NavigablePath, Initializer> initializerMap = new LinkedHashMap<>();
 		final InitializersList.Builder initializersBuilder = new InitializersList.Builder();
 
@@ -128,9 +141,28 @@ public class ResultsHelper {
 
 		final InitializersList initializersList = initializersBuilder.build( initializerMap );
 
+		if ( graphOwner != null && initializersList.isReusable() ) {
+			return new StandardRowReader<>(
+					new InitializerGraph( assemblers, initializersList ),
+					graphOwner,
+					rowTransformer,
+					transformedResultJavaType
+			);
+		}
 		return new StandardRowReader<>( assemblers, initializersList, rowTransformer, transformedResultJavaType );
 	}
 
+	private static boolean canReuseInitializerGraph(
+			ExecutionContext executionContext,
+			LockOptions lockOptions,
+			JdbcValuesMapping jdbcValuesMapping) {
+		return jdbcValuesMapping instanceof StandardJdbcValuesMapping
+				&& lockOptions != null
+				&& lockOptions.getLockMode() == LockMode.NONE
+				&& !lockOptions.hasAliasSpecificLockModes()
+				&& !executionContext.isScrollResult();
+	}
+
 	private static void logInitializers(Map<NavigablePath, Initializer> initializerMap) {
 		if ( ! ResultsLogger.DEBUG_ENABLED ) {
 			return;
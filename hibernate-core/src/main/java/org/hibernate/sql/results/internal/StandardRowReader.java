@@ -15,6 +15,7 @@ import org.hibernate.query.named.RowReaderMemento;
 import org.hibernate.sql.results.LoadingLogger;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -34,6 +35,9 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	private final StandardJdbcValuesMapping graphOwner;
+	private InitializerGraph reusableGraph;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			InitializersList initializers,
@@ -44,6 +48,25 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.graphOwner = null;
+	}
+
+	/**
+	 * Creates a row reader which offers the initializer graph back to
+	 * its owner once {@linkplain #finishUp loading finished}
+	 */
+	public StandardRowReader(
+			InitializerGraph graph,
+			StandardJdbcValuesMapping graphOwner,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		this.resultAssemblers = graph.getAssemblers();
+		this.initializers = graph.getInitializers();
+		this.rowTransformer = rowTransformer;
+		this.assemblerCount = resultAssemblers.size();
+		this.domainResultJavaType = domainResultJavaType;
+		this.graphOwner = graphOwner;
+		this.reusableGraph = graph;
 	}
 
 	@Override
@@ -84,6 +107,11 @@ public class StandardRowReader<T> implements RowReader<T> {
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 
+		if ( initializers.isEmpty() ) {
+			// scalar and dynamic instantiation results only need their assemblers
+			return readProjectionRow( rowProcessingState, options );
+		}
+
 		coordinateInitializers( rowProcessingState );
 
 		final Object[] resultRow = new Object[ assemblerCount ];
@@ -99,6 +127,14 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return rowTransformer.transformRow( resultRow );
 	}
 
+	private T readProjectionRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		final Object[] resultRow = new Object[ assemblerCount ];
+		for ( int i = 0; i < assemblerCount; i++ ) {
+			resultRow[i] = resultAssemblers.get( i ).assemble( rowProcessingState, options );
+		}
+		return rowTransformer.transformRow( resultRow );
+	}
+
 	private void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 		initializers.finishUpRow( rowProcessingState );
@@ -115,6 +151,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 	@SuppressWarnings("ForLoopReplaceableByForEach")
 	public void finishUp(JdbcValuesSourceProcessingState processingState) {
 		initializers.endLoading( processingState.getExecutionContext() );
+		if ( reusableGraph != null ) {
+			graphOwner.offerInitializerGraph( reusableGraph );
+			reusableGraph = null;
+		}
 	}
 
 	@Override
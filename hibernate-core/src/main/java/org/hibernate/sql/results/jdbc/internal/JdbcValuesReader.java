@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.type.descriptor.ValueExtractor;
+
+/**
+ * Reads the values of the current row of a {@link ResultSet} into the "JDBC values array",
+ * using the {@link ValueExtractor}s and positions of the {@link SqlSelection}s resolved
+ * upfront rather than per row.
+ */
+public final class JdbcValuesReader {
+	private final ValueExtractor<?>[] extractors;
+	private final int[] jdbcResultSetIndexes;
+	private final int[] valuesArrayPositions;
+
+	public JdbcValuesReader(List<SqlSelection> sqlSelections) {
+		final int size = sqlSelections.size();
+		this.extractors = new ValueExtractor<?>[size];
+		this.jdbcResultSetIndexes = new int[size];
+		this.valuesArrayPositions = new int[size];
+		for ( int i = 0; i < size; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections.get( i );
+			extractors[i] = sqlSelection.getJdbcValueExtractor();
+			jdbcResultSetIndexes[i] = sqlSelection.getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelection.getValuesArrayPosition();
+		}
+	}
+
+	/**
+	 * Read the values of the current row into the given array
+	 */
+	public void readRow(ResultSet resultSet, Object[] values, SharedSessionContractImplementor session) {
+		int i = 0;
+		try {
+			for ( ; i < extractors.length; i++ ) {
+				values[ valuesArrayPositions[i] ] = extractors[i].extract( resultSet, jdbcResultSetIndexes[i], session );
+			}
+		}
+		catch (SQLException e) {
+			// do not want to wrap in ExecutionException here
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + jdbcResultSetIndexes[i] + "] from JDBC ResultSet"
+			);
+		}
+	}
+}
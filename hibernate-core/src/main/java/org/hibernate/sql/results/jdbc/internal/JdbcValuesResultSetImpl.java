@@ -13,9 +13,7 @@ import java.util.Arrays;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
@@ -36,7 +34,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
-	private final SqlSelection[] sqlSelections;
+	private final JdbcValuesReader valuesReader;
 	private final Object[] currentRowJdbcValues;
 
 	public JdbcValuesResultSetImpl(
@@ -52,10 +50,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
 
-		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		this.valuesReader = resolveValuesReader( valuesMapping );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
 	}
 
+	static JdbcValuesReader resolveValuesReader(JdbcValuesMapping valuesMapping) {
+		if ( valuesMapping instanceof StandardJdbcValuesMapping ) {
+			return ( (StandardJdbcValuesMapping) valuesMapping ).getValuesReader();
+		}
+		return new JdbcValuesReader( valuesMapping.getSqlSelections() );
+	}
+
 	private static QueryCachePutManager resolveQueryCachePutManager(
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
@@ -255,24 +260,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private void readCurrentRowValues() {
-		final ResultSet resultSet = resultSetAccess.getResultSet();
-		final SharedSessionContractImplementor session = executionContext.getSession();
-		for ( final SqlSelection sqlSelection : sqlSelections ) {
-			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
-						session
-				);
-			}
-			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
-			}
-		}
+		valuesReader.readRow( resultSetAccess.getResultSet(), currentRowJdbcValues, executionContext.getSession() );
 	}
 
 	@Override
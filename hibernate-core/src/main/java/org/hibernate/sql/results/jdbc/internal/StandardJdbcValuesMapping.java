@@ -7,12 +7,14 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.InitializerGraph;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 
 /**
@@ -22,6 +24,9 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	private final List<SqlSelection> sqlSelections;
 	private final List<DomainResult<?>> domainResults;
 
+	private final AtomicReference<InitializerGraph> idleInitializerGraph = new AtomicReference<>();
+	private volatile JdbcValuesReader valuesReader;
+
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
 			List<DomainResult<?>> domainResults) {
@@ -57,4 +62,32 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 
 		return assemblers;
 	}
+
+	/**
+	 * The reader for the values of the {@linkplain #getSqlSelections() selections},
+	 * resolved once for all executions
+	 */
+	public JdbcValuesReader getValuesReader() {
+		JdbcValuesReader reader = valuesReader;
+		if ( reader == null ) {
+			reader = new JdbcValuesReader( sqlSelections );
+			valuesReader = reader;
+		}
+		return reader;
+	}
+
+	/**
+	 * Take the initializer graph left by a previous execution, if any.
+	 * The caller owns the graph until it {@linkplain #offerInitializerGraph offers} it back.
+	 */
+	public InitializerGraph takeInitializerGraph() {
+		return idleInitializerGraph.getAndSet( null );
+	}
+
+	/**
+	 * Keep an initializer graph, which has finished loading, for the next execution
+	 */
+	public void offerInitializerGraph(InitializerGraph graph) {
+		idleInitializerGraph.compareAndSet( null, graph );
+	}
 }
@@ -126,14 +126,20 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		private static final Object DUMP_VALUE = new Object();
 
 		private final IdentityHashMap<R, Object> added = new IdentityHashMap<>();
+		private R lastAdded;
 
 		public EntityResult(JavaType resultJavaType) {
 			super( resultJavaType );
 		}
 
 		public boolean addUnique(R result) {
+			// rows of a fetched collection repeat the same entity consecutively
+			if ( result != null && result == lastAdded ) {
+				return false;
+			}
 			if ( added.put( result, DUMP_VALUE ) == null ) {
 				super.add( result );
+				lastAdded = result;
 				return true;
 			}
 			return false;
@@ -151,10 +157,15 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final TypeConfiguration typeConfiguration = session.getTypeConfiguration();
 		final QueryOptions queryOptions = rowProcessingState.getQueryOptions();
+		// a projection of scalar or dynamic instantiation results loads neither entities nor collections,
+		// so it doesn't need to take part in the load handling of the persistence context
+		final boolean projectionOnly = rowReader.getInitializersList().isEmpty();
 		RuntimeException ex = null;
 		try {
-			persistenceContext.beforeLoad();
-			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+			if ( !projectionOnly ) {
+				persistenceContext.beforeLoad();
+				persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+			}
 
 			final JavaType<R> domainResultJavaType = resolveDomainResultJavaType(
 					rowReader.getDomainResultResultJavaType(),
@@ -201,12 +212,17 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 				}
 			}
 
-			try {
+			if ( projectionOnly ) {
 				rowReader.finishUp( jdbcValuesSourceProcessingState );
-				jdbcValuesSourceProcessingState.finishUp();
 			}
-			finally {
-				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+			else {
+				try {
+					rowReader.finishUp( jdbcValuesSourceProcessingState );
+					jdbcValuesSourceProcessingState.finishUp();
+				}
+				finally {
+					persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+				}
 			}
 
 			//noinspection unchecked
@@ -223,8 +239,10 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		finally {
 			try {
 				jdbcValues.finishUp( session );
-				persistenceContext.afterLoad();
-				persistenceContext.initializeNonLazyCollections();
+				if ( !projectionOnly ) {
+					persistenceContext.afterLoad();
+					persistenceContext.initializeNonLazyCollections();
+				}
 			}
 			catch (RuntimeException e) {
 				if ( ex != null ) {
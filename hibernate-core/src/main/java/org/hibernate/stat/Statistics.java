@@ -7,6 +7,8 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Exposes statistics collected from all sessions belonging to a
@@ -364,6 +366,17 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of query statements which were taken from the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE statement cache}
+	 * of a connection instead of being prepared.
+	 *
+	 * @since 6.3
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -379,4 +392,15 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The JDBC batch sizes chosen by {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_SIZE
+	 * adaptive batching}, keyed by the loggable form of the batch key, for every batch key
+	 * whose size has been adjusted since statistics were last cleared.
+	 *
+	 * @since 6.3
+	 */
+	default Map<String, Integer> getAdaptiveJdbcBatchSizes() {
+		return Collections.emptyMap();
+	}
 }
@@ -8,8 +8,11 @@ package org.hibernate.stat.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -57,6 +60,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
@@ -101,6 +105,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	/**
+	 * Keyed by batch key
+	 */
+	private final ConcurrentHashMap<String, Integer> adaptiveJdbcBatchSizes = new ConcurrentHashMap<>();
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -159,6 +168,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		connectCount.reset();
 
 		prepareStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
 		closeStatementCount.reset();
 
 		entityDeleteCount.reset();
@@ -198,6 +208,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		adaptiveJdbcBatchSizes.clear();
+
 		resetStart();
 	}
 
@@ -814,6 +826,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -839,11 +856,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		prepareStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
 	@Override
 	public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public Map<String, Integer> getAdaptiveJdbcBatchSizes() {
+		return Collections.unmodifiableMap( adaptiveJdbcBatchSizes );
+	}
+
+	@Override
+	public void adaptiveJdbcBatchSizeChanged(String batchKey, int batchSize) {
+		adaptiveJdbcBatchSizes.put( batchKey, batchSize );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -907,6 +939,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",flushes=" + flushCount +
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
 				",statements closed=" + closeStatementCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
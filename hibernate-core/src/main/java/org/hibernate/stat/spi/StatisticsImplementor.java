@@ -41,6 +41,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void prepareStatement();
 
+	/**
+	 * Callback about a query statement being taken from the statement cache of a
+	 * connection instead of being prepared
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a statement being closed.
 	 */
@@ -274,4 +282,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating that adaptive batching chose a new JDBC batch size.
+	 *
+	 * @param batchKey The loggable form of the batch key
+	 * @param batchSize The new batch size
+	 */
+	default void adaptiveJdbcBatchSizeChanged(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizeController;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_MAX_BYTES;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_SIZE_MIN;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests for {@link AdaptiveBatchSizeController}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "16" ),
+		@Setting( name = ADAPTIVE_BATCH_SIZE, value = "true" ),
+		@Setting( name = ADAPTIVE_BATCH_SIZE_MIN, value = "2" ),
+		// every row is "too wide", so that the size shrinks down to the minimum
+		@Setting( name = ADAPTIVE_BATCH_MAX_BYTES, value = "1" )
+} )
+@DomainModel( annotatedClasses = AdaptiveBatchSizeTest.Document.class )
+@SessionFactory( generateStatistics = true )
+public class AdaptiveBatchSizeTest {
+
+	@Test
+	public void testBatchSizeShrinksForWideRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new Document( i, "document content #" + i ) );
+			}
+		} );
+
+		final Map<String, Integer> batchSizes = scope.getSessionFactory()
+				.getStatistics()
+				.getAdaptiveJdbcBatchSizes();
+		assertThat( batchSizes ).containsEntry( Document.class.getName() + "#INSERT", 2 );
+
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Document", Long.class ).getSingleResult()
+		).isEqualTo( 100L ) );
+	}
+
+	@Test
+	public void testSizeAdjustment() {
+		final AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController( 2, 100, 10, 0 );
+		final BatchKey key = new BasicBatchKey( "Document#INSERT" );
+
+		assertThat( controller.getBatchSize( key, 10 ) ).isEqualTo( 10 );
+
+		// fast batches grow, but at most double per execution
+		assertThat( controller.batchExecuted( key, 10, 10, 1_000, 0 ) ).isEqualTo( 20 );
+		assertThat( controller.batchExecuted( key, 20, 20, 1_000, 0 ) ).isEqualTo( 40 );
+		assertThat( controller.batchExecuted( key, 40, 40, 1_000, 0 ) ).isEqualTo( 80 );
+		assertThat( controller.batchExecuted( key, 80, 80, 1_000, 0 ) ).isEqualTo( 100 );
+
+		// a partial batch never makes the size grow
+		assertThat( controller.batchExecuted( key, 100, 3, 1_000, 0 ) ).isEqualTo( 100 );
+
+		// slow batches shrink, but at most halve per execution
+		assertThat( controller.batchExecuted( key, 100, 100, 1_000_000_000L, 0 ) ).isEqualTo( 50 );
+		assertThat( controller.getBatchSize( key, 10 ) ).isEqualTo( 50 );
+
+		// at 1ms per row, only 10 rows fit in the target time
+		assertThat( controller.batchExecuted( key, 50, 50, 50_000_000L, 0 ) ).isEqualTo( 25 );
+		assertThat( controller.batchExecuted( key, 25, 25, 25_000_000L, 0 ) ).isEqualTo( 12 );
+		assertThat( controller.batchExecuted( key, 12, 12, 12_000_000L, 0 ) ).isEqualTo( 10 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Document" ).executeUpdate() );
+	}
+
+	@Entity( name = "Document" )
+	@Table( name = "documents" )
+	public static class Document {
+		@Id
+		private Integer id;
+		private String content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
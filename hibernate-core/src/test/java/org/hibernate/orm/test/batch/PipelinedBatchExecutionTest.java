@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.PIPELINED_BATCH_EXECUTION;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link PipelinedBatchImpl}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = ORDER_INSERTS, value = "true" ),
+		@Setting( name = PIPELINED_BATCH_EXECUTION, value = "true" )
+} )
+@DomainModel( annotatedClasses = { PipelinedBatchExecutionTest.Author.class, PipelinedBatchExecutionTest.Book.class } )
+@SessionFactory
+public class PipelinedBatchExecutionTest {
+
+	@Test
+	public void testInsertOrderIsPreserved(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 95; i++ ) {
+				final Author author = new Author( i, "Author #" + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book #" + i, author ) );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.createSelectionQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.list();
+			assertThat( books ).hasSize( 95 );
+			for ( int i = 0; i < books.size(); i++ ) {
+				assertThat( books.get( i ).author.id ).isEqualTo( i + 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testExceptionIsPropagated(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Author( 5, "Author #5" ) ) );
+
+		scope.inSession( (session) -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 1; i <= 25; i++ ) {
+					session.persist( new Author( i, "Author #" + i ) );
+				}
+				// the duplicate key is in the first batch, which executes in the background
+				assertThrows( PersistenceException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult()
+		).isEqualTo( 1L ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Author" )
+	@Table( name = "authors" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "books" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
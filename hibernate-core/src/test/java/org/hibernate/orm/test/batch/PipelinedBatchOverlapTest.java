@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CONNECTION_PROVIDER;
+import static org.hibernate.cfg.AvailableSettings.PIPELINED_BATCH_EXECUTION;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests that a {@link PipelinedBatchImpl} binds the next rows while the previous
+ * rows execute, unless binding might use the connection
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = PIPELINED_BATCH_EXECUTION, value = "true" )
+		},
+		settingProviders = @SettingProvider(
+				settingName = CONNECTION_PROVIDER,
+				provider = PipelinedBatchOverlapTest.ConnectionProviderSettingProvider.class
+		)
+)
+@DomainModel( annotatedClasses = { PipelinedBatchOverlapTest.Author.class, PipelinedBatchOverlapTest.Note.class } )
+@SessionFactory
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsJdbcDriverProxying.class )
+public class PipelinedBatchOverlapTest {
+
+	@Test
+	public void testBindingOverlapsExecution(SessionFactoryScope scope) {
+		final OverlapDetectingConnectionProvider connectionProvider = connectionProvider( scope );
+		connectionProvider.reset();
+		scope.inTransaction( (session) -> {
+			connectionProvider.flushingThread = Thread.currentThread();
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Author( i, "Author #" + i ) );
+			}
+		} );
+
+		assertThat( connectionProvider.backgroundExecutions ).isNotEmpty();
+		assertThat( connectionProvider.overlapped ).isTrue();
+	}
+
+	@Test
+	public void testLobBatchIsNotPipelined(SessionFactoryScope scope) {
+		final OverlapDetectingConnectionProvider connectionProvider = connectionProvider( scope );
+		connectionProvider.reset();
+		scope.inTransaction( (session) -> {
+			connectionProvider.flushingThread = Thread.currentThread();
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Note( i, "Note #" + i ) );
+			}
+		} );
+
+		assertThat( connectionProvider.backgroundExecutions ).isEmpty();
+		assertThat( connectionProvider.overlapped ).isFalse();
+		scope.inTransaction( (session) -> assertThat( session.find( Note.class, 25 ).text ).isEqualTo( "Note #25" ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		connectionProvider( scope ).reset();
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+			session.createMutationQuery( "delete Note" ).executeUpdate();
+		} );
+	}
+
+	private static OverlapDetectingConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (OverlapDetectingConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	public static class ConnectionProviderSettingProvider
+			implements SettingProvider.Provider<OverlapDetectingConnectionProvider> {
+		@Override
+		public OverlapDetectingConnectionProvider getSetting() {
+			return new OverlapDetectingConnectionProvider();
+		}
+	}
+
+	/**
+	 * Holds the first batch executed on a worker thread until the flushing thread
+	 * binds a value, to detect whether binding and execution overlap
+	 */
+	public static class OverlapDetectingConnectionProvider extends ConnectionProviderDelegate {
+		private final List<String> backgroundExecutions = new CopyOnWriteArrayList<>();
+		private volatile Thread flushingThread;
+		private volatile boolean executing;
+		private volatile boolean overlapped;
+		private volatile CountDownLatch bound;
+
+		private void reset() {
+			backgroundExecutions.clear();
+			flushingThread = null;
+			executing = false;
+			overlapped = false;
+			bound = new CountDownLatch( 1 );
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class[] { Connection.class },
+					new ConnectionHandler( connection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (ConnectionHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+
+		private class ConnectionHandler implements InvocationHandler {
+			private final Connection connection;
+
+			private ConnectionHandler(Connection connection) {
+				this.connection = connection;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final Object result = invokeOn( connection, method, args );
+				if ( result instanceof PreparedStatement && method.getName().equals( "prepareStatement" ) ) {
+					return Proxy.newProxyInstance(
+							getClass().getClassLoader(),
+							new Class[] { PreparedStatement.class },
+							new StatementHandler( (PreparedStatement) result, (String) args[0] )
+					);
+				}
+				return result;
+			}
+		}
+
+		private class StatementHandler implements InvocationHandler {
+			private final PreparedStatement statement;
+			private final String sql;
+
+			private StatementHandler(PreparedStatement statement, String sql) {
+				this.statement = statement;
+				this.sql = sql;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final Thread flushing = flushingThread;
+				if ( method.getName().equals( "executeBatch" ) && flushing != null && Thread.currentThread() != flushing ) {
+					backgroundExecutions.add( sql );
+					executing = true;
+					try {
+						// wait (once) for the flushing thread to bind the next rows
+						bound.await( 5, TimeUnit.SECONDS );
+						return invokeOn( statement, method, args );
+					}
+					finally {
+						executing = false;
+					}
+				}
+				if ( method.getName().startsWith( "set" ) && executing && Thread.currentThread() == flushing ) {
+					overlapped = true;
+					bound.countDown();
+				}
+				return invokeOn( statement, method, args );
+			}
+		}
+
+		private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	@Entity( name = "Author" )
+	@Table( name = "authors" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Note" )
+	@Table( name = "notes" )
+	public static class Note {
+		@Id
+		private Integer id;
+		@Lob
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
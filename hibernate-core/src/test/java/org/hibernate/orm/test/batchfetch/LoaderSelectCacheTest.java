@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import org.hibernate.Hibernate;
+import org.hibernate.loader.ast.internal.LoaderSelectCache;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderDynamicBatch;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batch loads reuse the translated select once it is cached
+ */
+@DomainModel( annotatedClasses = BatchLoadableEntity.class )
+@SessionFactory
+public class LoaderSelectCacheTest {
+	private static final int SIZE = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < SIZE; i++ ) {
+				session.persist( new BatchLoadableEntity( i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BatchLoadableEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBatchLoadReusesSelect(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( BatchLoadableEntity.class );
+		assertThat( persister.getSingleIdEntityLoader() ).isInstanceOf( SingleIdEntityLoaderDynamicBatch.class );
+		final LoaderSelectCache selectCache =
+				( (SingleIdEntityLoaderDynamicBatch<?>) persister.getSingleIdEntityLoader() ).getSelectCache();
+
+		final long initialMisses = selectCache.getMissCount();
+		final long initialHits = selectCache.getHitCount();
+
+		for ( int round = 1; round <= 3; round++ ) {
+			scope.inTransaction( (session) -> {
+				for ( int i = 0; i < SIZE; i++ ) {
+					session.getReference( BatchLoadableEntity.class, i );
+				}
+				final BatchLoadableEntity first = session.getReference( BatchLoadableEntity.class, 0 );
+				Hibernate.initialize( first );
+				for ( int i = 0; i < SIZE; i++ ) {
+					assertThat( Hibernate.isInitialized( session.getReference( BatchLoadableEntity.class, i ) ) ).isTrue();
+				}
+			} );
+			assertThat( selectCache.getMissCount() ).isEqualTo( initialMisses + 1 );
+			assertThat( selectCache.getHitCount() ).isEqualTo( initialHits + round - 1 );
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for streaming the elements of a collection without initializing it
+ */
+@DomainModel( annotatedClasses = { CollectionStreamTest.Owner.class, CollectionStreamTest.Item.class } )
+@SessionFactory
+public class CollectionStreamTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner owner = new Owner( 1 );
+			owner.tags.add( "c" );
+			owner.tags.add( "a" );
+			owner.tags.add( "b" );
+			session.persist( owner );
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, owner ) );
+			}
+			session.persist( new Owner( 2 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createQuery( "from Owner", Owner.class ).getResultList().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testStreamOneToMany(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			try (Stream<Item> items = Hibernate.stream( owner.items )) {
+				assertThat( items.map( item -> item.id ).collect( Collectors.toSet() ) ).containsExactlyInAnyOrder( 1, 2, 3 );
+			}
+			assertThat( Hibernate.isInitialized( owner.items ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testStreamOrderedElementCollection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			try (Stream<String> tags = Hibernate.stream( owner.tags )) {
+				assertThat( tags.collect( Collectors.toList() ) ).containsExactly( "c", "a", "b" );
+			}
+			assertThat( Hibernate.isInitialized( owner.tags ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testStreamEmptyAndInitialized(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner owner = session.get( Owner.class, 2 );
+			try (Stream<String> tags = Hibernate.stream( owner.tags )) {
+				assertThat( tags ).isEmpty();
+			}
+
+			Hibernate.initialize( owner.items );
+			try (Stream<Item> items = Hibernate.stream( owner.items )) {
+				assertThat( items ).isEmpty();
+			}
+		} );
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		@OneToMany( mappedBy = "owner" )
+		private Set<Item> items = new HashSet<>();
+		@ElementCollection
+		@OrderColumn
+		private List<String> tags = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+}
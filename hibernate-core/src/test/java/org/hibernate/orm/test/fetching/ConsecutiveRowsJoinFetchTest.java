@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PreLoadEventListener;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the rows of a fetched collection, which repeat the owning entity,
+ * initialize that entity only once
+ */
+@DomainModel( annotatedClasses = { ConsecutiveRowsJoinFetchTest.Parent.class, ConsecutiveRowsJoinFetchTest.Child.class } )
+@SessionFactory
+public class ConsecutiveRowsJoinFetchTest {
+	private static final AtomicInteger parentPreLoadCount = new AtomicInteger();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 2; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				for ( int j = 1; j <= 5; j++ ) {
+					session.persist( new Child( i * 10 + j, parent ) );
+				}
+			}
+		} );
+		scope.getSessionFactory().getEventEngine().getListenerRegistry().appendListeners(
+				EventType.PRE_LOAD,
+				(PreLoadEventListener) event -> {
+					if ( event.getEntity() instanceof Parent ) {
+						parentPreLoadCount.incrementAndGet();
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Child" ).executeUpdate();
+			session.createMutationQuery( "delete Parent" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void resetCount() {
+		parentPreLoadCount.set( 0 );
+	}
+
+	@Test
+	public void testJoinFetchInitializesOwnerOnce(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Parent> parents = session.createSelectionQuery(
+					"from Parent p join fetch p.children order by p.id",
+					Parent.class
+			).getResultList();
+			assertThat( parents ).hasSize( 2 );
+			for ( Parent parent : parents ) {
+				assertThat( parent.name ).isEqualTo( "parent " + parent.id );
+				assertThat( parent.children ).hasSize( 5 );
+				for ( Child child : parent.children ) {
+					assertThat( child.parent ).isSameAs( parent );
+				}
+			}
+		} );
+		assertThat( parentPreLoadCount.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testScrollAfterClear(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try (ScrollableResults<Parent> results = session.createSelectionQuery(
+					"select c.parent from Child c order by c.id",
+					Parent.class
+			).scroll()) {
+				assertThat( results.next() ).isTrue();
+				final Parent first = results.get();
+				session.clear();
+				assertThat( results.next() ).isTrue();
+				final Parent second = results.get();
+				assertThat( second.id ).isEqualTo( first.id );
+				assertThat( second ).isNotSameAs( first );
+				assertThat( session.contains( second ) ).isTrue();
+			}
+		} );
+	}
+
+	@Entity( name = "Parent" )
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "parent" )
+		private Set<Child> children = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Child" )
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
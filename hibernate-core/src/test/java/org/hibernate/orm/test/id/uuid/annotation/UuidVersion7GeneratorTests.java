@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.id.uuid.annotation;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
+
+@DomainModel( annotatedClasses = {
+		UuidVersion7GeneratorTests.Event.class,
+		UuidVersion7GeneratorTests.StringKeyedEvent.class,
+		UuidVersion7GeneratorTests.BinaryKeyedEvent.class
+} )
+@SessionFactory
+public class UuidVersion7GeneratorTests {
+
+	@Test
+	public void testUuidIdentifiers(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Event( "event #" + i ) );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Event> events = session.createSelectionQuery( "from Event order by name", Event.class ).list();
+			assertThat( events ).hasSize( 10 );
+			for ( int i = 1; i < events.size(); i++ ) {
+				final UUID previous = events.get( i - 1 ).id;
+				final UUID next = events.get( i ).id;
+				assertThat( next.version() ).isEqualTo( 7 );
+				// identifiers follow the insertion order
+				assertThat( Long.compareUnsigned( next.getMostSignificantBits(), previous.getMostSignificantBits() ) )
+						.isPositive();
+			}
+		} );
+	}
+
+	@Test
+	public void testStringAndBinaryIdentifiers(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final StringKeyedEvent stringKeyed = new StringKeyedEvent( "string" );
+			final BinaryKeyedEvent binaryKeyed = new BinaryKeyedEvent( "binary" );
+			session.persist( stringKeyed );
+			session.persist( binaryKeyed );
+			session.flush();
+
+			assertThat( UUID.fromString( stringKeyed.id ).version() ).isEqualTo( 7 );
+			assertThat( binaryKeyed.id ).hasSize( 16 );
+		} );
+	}
+
+	@Test
+	@SkipForDialect( dialectClass = PostgreSQLDialect.class, matchSubTypes = true, reason = "The CTE insert strategy cannot generate in-memory identifiers" )
+	@SkipForDialect( dialectClass = CockroachDialect.class, matchSubTypes = true, reason = "The CTE insert strategy cannot generate in-memory identifiers" )
+	@SkipForDialect( dialectClass = DB2Dialect.class, matchSubTypes = true, reason = "The CTE insert strategy cannot generate in-memory identifiers" )
+	public void testBulkInsertion(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Event( "a" ) );
+			session.persist( new Event( "b" ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final int count = session.createMutationQuery( "insert into Event (name) select e.name || '-copy' from Event e" )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( 2 );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Event> events = session.createSelectionQuery( "from Event", Event.class ).list();
+			assertThat( events ).hasSize( 4 );
+			assertThat( events ).extracting( event -> event.id.version() ).containsOnly( 7 );
+			assertThat( events ).extracting( event -> event.id ).doesNotHaveDuplicates();
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Event" ).executeUpdate();
+			session.createMutationQuery( "delete StringKeyedEvent" ).executeUpdate();
+			session.createMutationQuery( "delete BinaryKeyedEvent" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Event" )
+	@Table( name = "uuid7_events" )
+	public static class Event {
+		@Id
+		@UuidGenerator( style = VERSION_7 )
+		private UUID id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "StringKeyedEvent" )
+	@Table( name = "uuid7_string_events" )
+	public static class StringKeyedEvent {
+		@Id
+		@UuidGenerator( style = VERSION_7 )
+		private String id;
+		private String name;
+
+		public StringKeyedEvent() {
+		}
+
+		public StringKeyedEvent(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "BinaryKeyedEvent" )
+	@Table( name = "uuid7_binary_events" )
+	public static class BinaryKeyedEvent {
+		@Id
+		@UuidGenerator( style = VERSION_7 )
+		private byte[] id;
+		private String name;
+
+		public BinaryKeyedEvent() {
+		}
+
+		public BinaryKeyedEvent(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.uuid.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BaseUnitTest
+public class UuidVersion7StrategyTest {
+
+	@Test
+	public void testVersionAndVariant() {
+		final UUID uuid = new UuidVersion7Strategy().generateUuid( null );
+		assertThat( uuid.version() ).isEqualTo( 7 );
+		assertThat( uuid.variant() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testTimestamp() {
+		final long before = System.currentTimeMillis();
+		final UUID uuid = new UuidVersion7Strategy().generateUuid( null );
+		final long after = System.currentTimeMillis();
+
+		final long timestamp = uuid.getMostSignificantBits() >>> 16;
+		assertThat( timestamp ).isBetween( before, after );
+	}
+
+	@Test
+	public void testValuesAreIncreasing() {
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		// more than fit in the counter for a single millisecond
+		UUID previous = strategy.generateUuid( null );
+		for ( int i = 0; i < 10_000; i++ ) {
+			final UUID next = strategy.generateUuid( null );
+			assertThat( Long.compareUnsigned( next.getMostSignificantBits(), previous.getMostSignificantBits() ) )
+					.isPositive();
+			assertThat( next.version() ).isEqualTo( 7 );
+			previous = next;
+		}
+	}
+
+	@Test
+	public void testConcurrentGenerationIsUnique() throws Exception {
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		final Set<Long> mostSignificantBits = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < 5_000; j++ ) {
+						mostSignificantBits.add( strategy.generateUuid( null ).getMostSignificantBits() );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		// even the timestamp and counter part alone is unique
+		assertThat( mostSignificantBits ).hasSize( 20_000 );
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.idgen.enhanced.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = StripedTableTest.StripedEntity.class )
+@SessionFactory
+public class StripedTableTest {
+	private static final int STRIPES = 4;
+
+	@Test
+	public void testGeneratorTableHasRowPerStripe(SessionFactoryScope scope) {
+		final TableGenerator generator = getGenerator( scope );
+		assertThat( generator.getSegmentStripes() ).isEqualTo( STRIPES );
+
+		scope.inTransaction( (session) -> {
+			final List<?> segments = session.createNativeQuery(
+					"select sequence_name from ID_TBL_STRIPED_TBL order by sequence_name"
+			).list();
+			assertThat( segments ).containsExactly( "striped#0", "striped#1", "striped#2", "striped#3" );
+		} );
+	}
+
+	@Test
+	public void testThreadAllocatesFromSingleStripe(SessionFactoryScope scope) {
+		final List<Long> ids = new ArrayList<>();
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 25; i++ ) {
+				final StripedEntity entity = new StripedEntity( "entity #" + i );
+				session.persist( entity );
+				ids.add( entity.id );
+			}
+		} );
+
+		for ( int i = 0; i < ids.size(); i++ ) {
+			// the identifiers of a stripe are interleaved with those of the other stripes
+			assertThat( ids.get( i ) ).isEqualTo( ids.get( 0 ) + (long) i * STRIPES );
+		}
+	}
+
+	@Test
+	public void testConcurrentAllocationsAreDisjoint(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( STRIPES );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < STRIPES * 2; i++ ) {
+				futures.add( executor.submit( () -> scope.inTransaction( (session) -> {
+					for ( int j = 0; j < 15; j++ ) {
+						session.persist( new StripedEntity( "entity #" + j ) );
+					}
+				} ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		scope.inTransaction( (session) -> {
+			final List<Long> ids = session.createSelectionQuery( "select e.id from StripedEntity e", Long.class )
+					.list();
+			assertThat( ids ).hasSize( STRIPES * 2 * 15 ).doesNotHaveDuplicates();
+		} );
+	}
+
+	private static TableGenerator getGenerator(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( StripedEntity.class );
+		assertThat( persister.getIdentifierGenerator() ).isInstanceOf( TableGenerator.class );
+		return (TableGenerator) persister.getIdentifierGenerator();
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete StripedEntity" ).executeUpdate() );
+	}
+
+	@jakarta.persistence.Entity( name = "StripedEntity" )
+	@Table( name = "ID_TBL_STRIPED_ENTITY" )
+	public static class StripedEntity {
+		@Id
+		@GeneratedValue( generator = "striped" )
+		@GenericGenerator( name = "striped", strategy = "org.hibernate.id.enhanced.TableGenerator", parameters = {
+				@Parameter( name = "table_name", value = "ID_TBL_STRIPED_TBL" ),
+				@Parameter( name = "segment_value", value = "striped" ),
+				@Parameter( name = "initial_value", value = "1" ),
+				@Parameter( name = "increment_size", value = "10" ),
+				@Parameter( name = "optimizer", value = "pooled" ),
+				@Parameter( name = "segment_stripes", value = "" + STRIPES )
+		} )
+		private Long id;
+		private String name;
+
+		public StripedEntity() {
+		}
+
+		public StripedEntity(String name) {
+			this.name = name;
+		}
+	}
+}
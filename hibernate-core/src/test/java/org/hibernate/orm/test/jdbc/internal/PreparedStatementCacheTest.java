@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query statements are reused while the session holds the connection
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			session.persist( new BasicEntity( 2, "second" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testQueryStatementReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat(
+						session.createSelectionQuery( "select data from BasicEntity where id = :id", String.class )
+								.setParameter( "id", 1 )
+								.getSingleResult()
+				).isEqualTo( "first" );
+				assertThat(
+						session.createSelectionQuery( "select id from BasicEntity where data = :data", Integer.class )
+								.setParameter( "data", "second" )
+								.getSingleResult()
+				).isEqualTo( 2 );
+			}
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testStatementsNotReusedAcrossConnections(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					(session) -> session.createSelectionQuery( "from BasicEntity", BasicEntity.class ).getResultList()
+			);
+		}
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+}
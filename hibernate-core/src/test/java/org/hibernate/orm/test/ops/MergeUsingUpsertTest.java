@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.ops;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.MERGE_DETACHED_USING_UPSERT;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@value org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_USING_UPSERT}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = MERGE_DETACHED_USING_UPSERT, value = "true" ),
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" )
+} )
+@DomainModel( annotatedClasses = { MergeUsingUpsertTest.Customer.class, MergeUsingUpsertTest.Address.class } )
+@SessionFactory( useCollectingStatementInspector = true )
+public class MergeUsingUpsertTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer customer = new Customer( 1, "Acme" );
+			session.persist( customer );
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Address( i, "Street #" + i, customer ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete UpsertAddress" ).executeUpdate();
+			session.createMutationQuery( "delete UpsertCustomer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMergeDetachedGraphWithoutSelect(SessionFactoryScope scope) {
+		final Customer customer = new Customer( 1, "Acme Corporation" );
+		customer.version = 0;
+		final List<Address> addresses = new ArrayList<>();
+		for ( int i = 1; i <= 6; i++ ) {
+			// the first three exist already, the others do not
+			addresses.add( new Address( i, "Avenue #" + i, customer ) );
+		}
+
+		// versioned entities are only upserted if the dialect checks the version in the upsert
+		final boolean customerUpserted = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Customer.class )
+				.getMergeCoordinator() != null;
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( (session) -> {
+			for ( Address address : addresses ) {
+				session.merge( address );
+			}
+		} );
+		assertThat( statementInspector.getSqlQueries() )
+				.isNotEmpty()
+				.noneMatch( sql -> sql.toLowerCase().startsWith( "select" )
+						&& ( customerUpserted || !sql.contains( "upsert_customers" ) ) );
+
+		scope.inTransaction( (session) -> {
+			final Customer merged = session.find( Customer.class, 1 );
+			assertThat( merged.name ).isEqualTo( "Acme Corporation" );
+			assertThat( merged.version ).isEqualTo( 1 );
+
+			final List<Address> merges = session.createSelectionQuery( "from UpsertAddress order by id", Address.class )
+					.list();
+			assertThat( merges ).hasSize( 6 );
+			for ( int i = 0; i < merges.size(); i++ ) {
+				assertThat( merges.get( i ).street ).isEqualTo( "Avenue #" + ( i + 1 ) );
+				assertThat( merges.get( i ).customer.id ).isEqualTo( 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testMergeResultIsManaged(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer detached = new Customer( 1, "Acme Corporation" );
+			detached.version = 0;
+			final Customer merged = session.merge( detached );
+			assertThat( merged ).isNotSameAs( detached );
+			assertThat( session.contains( merged ) ).isTrue();
+			assertThat( merged.version ).isEqualTo( 1 );
+			// modifications of the managed instance are flushed as an update
+			merged.name = "Acme Inc.";
+		} );
+
+		scope.inTransaction( (session) -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			assertThat( customer.name ).isEqualTo( "Acme Inc." );
+			assertThat( customer.version ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testVersionIsCheckedInDatabase(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.find( Customer.class, 1 ).name = "Acme Corporation" );
+
+		scope.inSession( (session) -> {
+			session.getTransaction().begin();
+			try {
+				final Customer stale = new Customer( 1, "Stale Acme" );
+				stale.version = 0;
+				// the version is checked at flush by the upsert, or at merge by the select
+				assertThrows(
+						OptimisticLockException.class,
+						() -> {
+							session.merge( stale );
+							session.flush();
+						}
+				);
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			assertThat( customer.name ).isEqualTo( "Acme Corporation" );
+			assertThat( customer.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity( name = "UpsertCustomer" )
+	@Table( name = "upsert_customers" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "UpsertAddress" )
+	@Table( name = "upsert_addresses" )
+	public static class Address {
+		@Id
+		private Integer id;
+		private String street;
+		@ManyToOne( cascade = CascadeType.MERGE )
+		private Customer customer;
+
+		public Address() {
+		}
+
+		public Address(Integer id, String street, Customer customer) {
+			this.id = id;
+			this.street = street;
+			this.customer = customer;
+		}
+	}
+}
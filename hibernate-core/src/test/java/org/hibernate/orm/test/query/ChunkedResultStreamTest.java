@@ -0,0 +1,217 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultStream(int)}
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10" ) )
+@DomainModel(
+		annotatedClasses = {
+				BasicEntity.class, ChunkedResultStreamTest.Book.class, ChunkedResultStreamTest.Author.class
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class ChunkedResultStreamTest {
+	private static final int SIZE = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < SIZE; i++ ) {
+				session.persist( new BasicEntity( i, "entity " + i ) );
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, author ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete BasicEntity" ).executeUpdate();
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesOfPreviousChunksAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<BasicEntity> results = new ArrayList<>();
+			try (Stream<BasicEntity> stream = session.createSelectionQuery( "from BasicEntity order by id", BasicEntity.class )
+					.getResultStream( 3 )) {
+				final Iterator<BasicEntity> iterator = stream.iterator();
+				while ( iterator.hasNext() ) {
+					final BasicEntity entity = iterator.next();
+					assertThat( session.contains( entity ) ).isTrue();
+					results.add( entity );
+					if ( results.size() > 3 ) {
+						assertThat( session.contains( results.get( results.size() - 4 ) ) ).isFalse();
+					}
+				}
+			}
+			assertThat( results ).extracting( BasicEntity::getId ).containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+			// the last chunk is detached once the results are exhausted
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testEntitiesManagedBeforeAreNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final BasicEntity managed = session.get( BasicEntity.class, 4 );
+			try (Stream<BasicEntity> stream = session.createSelectionQuery( "from BasicEntity order by id", BasicEntity.class )
+					.getResultStream( 3 )) {
+				assertThat( stream.filter( entity -> entity == managed ).count() ).isEqualTo( 1 );
+			}
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testFetchSizeOfQueryNotChanged(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<BasicEntity> query = session.createSelectionQuery( "from BasicEntity", BasicEntity.class );
+			try (Stream<BasicEntity> stream = query.getResultStream( 3 )) {
+				assertThat( stream.count() ).isEqualTo( SIZE );
+			}
+			assertThat( query.getFetchSize() ).isNull();
+		} );
+	}
+
+	@Test
+	public void testLazyAssociationsBatchFetchedPerChunk(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( (session) -> {
+			statementInspector.clear();
+			final List<String> names = new ArrayList<>();
+			try (Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultStream( 5 )) {
+				stream.forEach( book -> {
+					assertThat( Hibernate.isInitialized( book.author ) ).isEqualTo( book.id % 5 != 0 );
+					names.add( book.author.getName() );
+					// the books and authors of the previous chunk were detached
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 10 );
+				} );
+			}
+			assertThat( names ).hasSize( SIZE ).startsWith( "author 0" ).endsWith( "author 9" );
+			// the books, and then the authors of each chunk of five books
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testFetchedAssociationsAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Author> authors = new ArrayList<>();
+			try (Stream<Book> stream = session.createSelectionQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.getResultStream( 3 )) {
+				stream.forEach( book -> {
+					assertThat( session.contains( book.author ) ).isTrue();
+					authors.add( book.author );
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 6 );
+				} );
+			}
+			assertThat( authors ).hasSize( SIZE ).noneMatch( session::contains );
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testTupleResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try (Stream<Object[]> stream = session.createSelectionQuery(
+					"select e, e.data from BasicEntity e order by e.id",
+					Object[].class
+			).getResultStream( 4 )) {
+				assertThat( stream.map( row -> (String) row[1] ).collect( Collectors.toList() ) )
+						.hasSize( SIZE )
+						.startsWith( "entity 0" );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( (session) -> {
+			try (Stream<BasicEntity> stream = session.createSelectionQuery( "from BasicEntity", BasicEntity.class )
+					.getResultStream( 3 )) {
+				assertThat( stream.count() ).isEqualTo( SIZE );
+			}
+		} );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
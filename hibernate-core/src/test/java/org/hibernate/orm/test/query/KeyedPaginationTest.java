@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SelectionQuery#getKeyedResultList}
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@SessionFactory
+public class KeyedPaginationTest {
+	private static final int SIZE = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < SIZE; i++ ) {
+				session.persist( new BasicEntity( i, "entity " + ( i % 3 ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPagesInKeyOrder(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Integer> ids = readAll(
+					session.createSelectionQuery( "select id from BasicEntity order by id", Integer.class ),
+					KeyedPage.first( 3 )
+			);
+			assertThat( ids ).containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+		} );
+	}
+
+	@Test
+	public void testMixedSortDirectionsAndParameters(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<BasicEntity> query = session.createSelectionQuery(
+							"from BasicEntity where id > :min order by data desc, id",
+							BasicEntity.class
+					)
+					.setParameter( "min", 0 );
+			final List<Integer> ids = new ArrayList<>();
+			for ( BasicEntity entity : readAll( query, KeyedPage.first( 2 ) ) ) {
+				ids.add( entity.getId() );
+			}
+			assertThat( ids ).containsExactly( 2, 5, 8, 1, 4, 7, 3, 6, 9 );
+		} );
+	}
+
+	@Test
+	public void testCriteriaQuery(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+			final JpaRoot<BasicEntity> root = criteria.from( BasicEntity.class );
+			criteria.select( root.get( "id" ) ).orderBy( cb.desc( root.get( "id" ) ) );
+			final KeyedResultList<Integer> first = session.createQuery( criteria ).getKeyedResultList( KeyedPage.first( 4 ) );
+			assertThat( first.getResultList() ).containsExactly( 9, 8, 7, 6 );
+			assertThat( first.getNextPage().getKey() ).containsExactly( 6 );
+
+			final KeyedResultList<Integer> second = session.createQuery( criteria ).getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).containsExactly( 5, 4, 3, 2 );
+			assertThat( second.isLastPage() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testUnorderedQuery(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> assertThatThrownBy(
+				() -> session.createSelectionQuery( "from BasicEntity", BasicEntity.class )
+						.getKeyedResultList( KeyedPage.first( 3 ) )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	private static <R> List<R> readAll(SelectionQuery<R> query, KeyedPage<R> firstPage) {
+		final List<R> results = new ArrayList<>();
+		KeyedPage<R> page = firstPage;
+		while ( page != null ) {
+			final KeyedResultList<R> resultList = query.getKeyedResultList( page );
+			assertThat( resultList.getResultList().size() ).isLessThanOrEqualTo( page.getSize() );
+			results.addAll( resultList.getResultList() );
+			page = resultList.getNextPage();
+		}
+		return results;
+	}
+}
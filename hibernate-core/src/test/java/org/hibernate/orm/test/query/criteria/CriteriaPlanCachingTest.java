@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the sharing of query plans between criteria queries of the same structure
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class CriteriaPlanCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			session.persist( new BasicEntity( 2, "second" ) );
+			session.persist( new BasicEntity( 3, "third" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearPlanCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testParameterizedQueriesSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat( findByData( session, "first" ) ).containsExactly( 1 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			assertThat( findByData( session, "second" ) ).containsExactly( 2 );
+			assertThat( findByData( session, "third" ) ).containsExactly( 3 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testValueBoundQueriesSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat( findByIdRange( session, 1, 2 ) ).containsExactly( 1, 2 );
+			assertThat( findByIdRange( session, 2, 3 ) ).containsExactly( 2, 3 );
+			assertThat( findByIdRange( session, 3, 3 ) ).containsExactly( 3 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testDifferentStructuresDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final CriteriaQuery<Integer> ascending = cb.createQuery( Integer.class );
+			final Root<BasicEntity> root = ascending.from( BasicEntity.class );
+			ascending.select( root.get( "id" ) ).orderBy( cb.asc( root.get( "id" ) ) );
+			assertThat( session.createQuery( ascending ).getResultList() ).containsExactly( 1, 2, 3 );
+
+			final CriteriaQuery<Integer> descending = cb.createQuery( Integer.class );
+			final Root<BasicEntity> otherRoot = descending.from( BasicEntity.class );
+			descending.select( otherRoot.get( "id" ) ).orderBy( cb.desc( otherRoot.get( "id" ) ) );
+			assertThat( session.createQuery( descending ).getResultList() ).containsExactly( 3, 2, 1 );
+
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testReusedParameterMapsToSameOrdinal(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat( findByDataOrId( session, "first", 3 ) ).containsExactly( 1, 3 );
+			assertThat( findByDataOrId( session, "second", 1 ) ).containsExactly( 1, 2 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	private static List<Integer> findByData(SessionImplementor session, String data) {
+		final CriteriaBuilder cb = session.getCriteriaBuilder();
+		final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		final ParameterExpression<String> parameter = cb.parameter( String.class );
+		criteria.select( root.get( "id" ) ).where( cb.equal( root.get( "data" ), parameter ) );
+		return session.createQuery( criteria ).setParameter( parameter, data ).getResultList();
+	}
+
+	private static List<Integer> findByIdRange(SessionImplementor session, int lower, int upper) {
+		final CriteriaBuilder cb = session.getCriteriaBuilder();
+		final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		criteria.select( root.get( "id" ) )
+				.where( cb.between( root.get( "id" ), lower, upper ) )
+				.orderBy( cb.asc( root.get( "id" ) ) );
+		return session.createQuery( criteria ).getResultList();
+	}
+
+	private static List<Integer> findByDataOrId(SessionImplementor session, String data, int id) {
+		final CriteriaBuilder cb = session.getCriteriaBuilder();
+		final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		final ParameterExpression<Integer> idParameter = cb.parameter( Integer.class );
+		final ParameterExpression<String> dataParameter = cb.parameter( String.class );
+		criteria.select( root.get( "id" ) )
+				.where( cb.or(
+						cb.equal( root.get( "id" ), idParameter ),
+						cb.equal( root.get( "data" ), dataParameter ),
+						cb.equal( root.get( "id" ), idParameter )
+				) )
+				.orderBy( cb.asc( root.get( "id" ) ) );
+		return session.createQuery( criteria )
+				.setParameter( idParameter, id )
+				.setParameter( dataParameter, data )
+				.getResultList();
+	}
+}
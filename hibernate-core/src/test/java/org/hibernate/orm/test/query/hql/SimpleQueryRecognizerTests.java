@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.SemanticQueryBuilder;
+import org.hibernate.query.hql.internal.SimpleQueryRecognizer;
+import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import org.hibernate.testing.orm.domain.gambit.EntityWithManyToOneSelfReference;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests building the semantic model of simple queries without the parser
+ */
+@DomainModel( annotatedClasses = EntityWithManyToOneSelfReference.class )
+@SessionFactory
+public class SimpleQueryRecognizerTests {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final EntityWithManyToOneSelfReference first = new EntityWithManyToOneSelfReference( 1, "first", 1 );
+			session.persist( first );
+			session.persist( new EntityWithManyToOneSelfReference( 2, "second", 2, first ) );
+			session.persist( new EntityWithManyToOneSelfReference( 3, "third", 2, first ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "update EntityWithManyToOneSelfReference set other = null" ).executeUpdate();
+			session.createMutationQuery( "delete EntityWithManyToOneSelfReference" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRecognizedQueries() {
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference" ) ).isNotNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e" ) ).isNotNull();
+		assertThat( SimpleQueryRecognizer.recognize( "select e from EntityWithManyToOneSelfReference as e" ) ).isNotNull();
+		assertThat( SimpleQueryRecognizer.recognize( "FROM EntityWithManyToOneSelfReference e WHERE e.name = :name" ) )
+				.isNotNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e where e.other.id=:id and e.someInteger = :i" ) )
+				.isNotNull();
+	}
+
+	@Test
+	public void testUnrecognizedQueries() {
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference where name = :name" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e where e.name = 'first'" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e where x.name = :name" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e where e.name = :n or e.id = :id" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e order by e.name" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference join" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "select e.name from EntityWithManyToOneSelfReference e" ) ).isNull();
+		assertThat( SimpleQueryRecognizer.recognize( "from EntityWithManyToOneSelfReference e /* comment */" ) ).isNull();
+	}
+
+	@Test
+	public void testSameSemanticModelAsParser(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		assertSameSemanticModel( sessionFactory, "from EntityWithManyToOneSelfReference", null );
+		assertSameSemanticModel( sessionFactory, "from EntityWithManyToOneSelfReference e", Object[].class );
+		assertSameSemanticModel( sessionFactory, "select e from EntityWithManyToOneSelfReference e", null );
+		assertSameSemanticModel(
+				sessionFactory,
+				"from EntityWithManyToOneSelfReference e where e.other.id = :id and e.someInteger = :i and e.name = :name",
+				EntityWithManyToOneSelfReference.class
+		);
+	}
+
+	@Test
+	public void testExecution(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<EntityWithManyToOneSelfReference> results = session.createSelectionQuery(
+							"from EntityWithManyToOneSelfReference e where e.other.id = :id and e.someInteger = :i",
+							EntityWithManyToOneSelfReference.class
+					)
+					.setParameter( "id", 1 )
+					.setParameter( "i", 2 )
+					.getResultList();
+			assertThat( results ).extracting( EntityWithManyToOneSelfReference::getName )
+					.containsExactlyInAnyOrder( "second", "third" );
+		} );
+	}
+
+	private static void assertSameSemanticModel(SessionFactoryImplementor sessionFactory, String hql, Class<?> resultType) {
+		final SqmCreationOptionsStandard options = new SqmCreationOptionsStandard( sessionFactory.getSessionFactoryOptions() );
+
+		final SqmSelectStatement<?> simple = SemanticQueryBuilder.buildSemanticModel(
+				SimpleQueryRecognizer.recognize( hql ),
+				resultType,
+				options,
+				sessionFactory
+		);
+
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final SqmStatement<?> parsed = SemanticQueryBuilder.buildSemanticModel(
+				HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, lexer ).statement(),
+				resultType,
+				options,
+				sessionFactory
+		);
+
+		assertThat( simple ).isNotNull();
+		assertThat( simple.toHqlString() ).isEqualTo( parsed.toHqlString() );
+		assertThat( simple.getQuerySpec().getSelectClause().getSelections() )
+				.hasSameSizeAs( ( (SqmSelectStatement<?>) parsed ).getQuerySpec().getSelectClause().getSelections() );
+		assertThat( simple.getSqmParameters() ).hasSameSizeAs( parsed.getSqmParameters() );
+	}
+}
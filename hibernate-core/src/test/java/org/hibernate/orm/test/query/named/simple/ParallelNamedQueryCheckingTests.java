@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named.simple;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests checking named queries at startup on several threads
+ */
+@DomainModel( annotatedClasses = SimpleEntityWithNamedQueries.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, value = "4" )
+} )
+@SessionFactory
+public class ParallelNamedQueryCheckingTests {
+	private static final String SIMPLE = "select e from SimpleEntityWithNamedQueries e";
+	private static final String RESTRICTED = "select e from SimpleEntityWithNamedQueries e where e.name = :name";
+
+	@Test
+	public void testNamedQueriesNotParsedAgain(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryStatistics( SIMPLE ).getPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryStatistics( RESTRICTED ).getPlanCacheMissCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			session.createNamedQuery( "simple", SimpleEntityWithNamedQueries.class ).list();
+			session.createNamedQuery( "restricted", SimpleEntityWithNamedQueries.class )
+					.setParameter( "name", "a name" )
+					.list();
+		} );
+		assertThat( statistics.getQueryStatistics( SIMPLE ).getPlanCacheHitCount() ).isGreaterThan( 0 );
+		assertThat( statistics.getQueryStatistics( RESTRICTED ).getPlanCacheHitCount() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testErrorsOfAllThreadsReported() {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" )
+				.build();
+		try {
+			final Metadata metadata = new MetadataSources( ssr )
+					.addAnnotatedClass( SimpleEntityWithNamedQueries.class )
+					.addAnnotatedClass( EntityWithInvalidNamedQueries.class )
+					.buildMetadata();
+			assertThatThrownBy( () -> metadata.buildSessionFactory().close() )
+					.isInstanceOf( HibernateException.class )
+					.hasMessageStartingWith( "Errors in named queries: " )
+					.hasMessageContaining( "unknownEntity" )
+					.hasMessageContaining( "unknownAttribute" )
+					.hasMessageNotContaining( "simple" )
+					.hasMessageNotContaining( "restricted" )
+					.satisfies( (e) -> assertThat( e.getSuppressed() ).hasSize( 2 ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity( name = "EntityWithInvalidNamedQueries" )
+	@NamedQuery( name = "unknownEntity", query = "select e from NoSuchEntity e" )
+	@NamedQuery(
+			name = "unknownAttribute",
+			query = "select e from EntityWithInvalidNamedQueries e where e.noSuchAttribute = 1"
+	)
+	public static class EntityWithInvalidNamedQueries {
+		@Id
+		private Integer id;
+	}
+}
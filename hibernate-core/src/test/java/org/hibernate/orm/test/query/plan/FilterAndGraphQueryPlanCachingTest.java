@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the caching of query plans for queries executed with enabled filters
+ * or an applied entity graph
+ */
+@DomainModel( annotatedClasses = {
+		FilterAndGraphQueryPlanCachingTest.Owner.class,
+		FilterAndGraphQueryPlanCachingTest.Account.class
+} )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class FilterAndGraphQueryPlanCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner owner = new Owner( 1, "owner" );
+			session.persist( owner );
+			session.persist( new Account( 1, "acme", owner ) );
+			session.persist( new Account( 2, "acme", owner ) );
+			session.persist( new Account( 3, "initech", owner ) );
+			session.persist( new Account( 4, "globex", owner ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Account" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void clearPlanCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testFilteredQueriesSharePlanAcrossSessions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenant" ).setParameter( "tenant", "acme" );
+			assertThat( findAccountIds( session ) ).containsExactly( 1, 2 );
+		} );
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenant" ).setParameter( "tenant", "initech" );
+			assertThat( findAccountIds( session ) ).containsExactly( 3 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> assertThat( findAccountIds( session ) ).containsExactly( 1, 2, 3, 4 ) );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMultiValuedFilterParameterCardinality(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenants" ).setParameterList( "tenants", List.of( "acme", "globex" ) );
+			assertThat( findAccountIds( session ) ).containsExactly( 1, 2, 4 );
+		} );
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenants" ).setParameterList( "tenants", List.of( "initech", "globex" ) );
+			assertThat( findAccountIds( session ) ).containsExactly( 3, 4 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenants" ).setParameterList( "tenants", List.of( "initech" ) );
+			assertThat( findAccountIds( session ) ).containsExactly( 3 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEquivalentGraphsSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( (session) -> {
+				final RootGraph<Account> graph = session.createEntityGraph( Account.class );
+				graph.addAttributeNodes( "owner" );
+				final Account account = session.createSelectionQuery( "from Account where id = 1", Account.class )
+						.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+						.getSingleResult();
+				assertThat( Hibernate.isInitialized( account.owner ) ).isTrue();
+			} );
+		}
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			final Account account = session.createSelectionQuery( "from Account where id = 1", Account.class )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( account.owner ) ).isFalse();
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	private static List<Integer> findAccountIds(SessionImplementor session) {
+		return session.createSelectionQuery( "select id from Account order by id", Integer.class ).getResultList();
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Account" )
+	@FilterDef( name = "tenant", parameters = @ParamDef( name = "tenant", type = String.class ) )
+	@FilterDef( name = "tenants", parameters = @ParamDef( name = "tenants", type = String.class ) )
+	@Filter( name = "tenant", condition = "tenant = :tenant" )
+	@Filter( name = "tenants", condition = "tenant in (:tenants)" )
+	public static class Account {
+		@Id
+		private Integer id;
+		private String tenant;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Owner owner;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String tenant, Owner owner) {
+			this.id = id;
+			this.tenant = tenant;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.domain.gambit.EntityOfBasics;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests storing the HQL queries interpreted by one SessionFactory for the next one
+ */
+@BaseUnitTest
+public class HqlInterpretationStoreTest {
+	private static final String QUERY = "select id from BasicEntity where data = :data";
+	private static final String MULTI_QUERY = "select id, data from BasicEntity";
+
+	@Test
+	public void testStoredQueriesInterpretedAtStartup(@TempDir Path directory) {
+		final Path file = directory.resolve( "hql.bin" );
+
+		withSessionFactory( file, BasicEntity.class, (sessionFactory) -> {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 0 );
+			sessionFactory.inSession( (session) -> {
+				session.createSelectionQuery( QUERY, Integer.class );
+				session.createSelectionQuery( MULTI_QUERY, Object[].class );
+			} );
+		} );
+		assertThat( file ).exists();
+
+		withSessionFactory( file, BasicEntity.class, (sessionFactory) -> {
+			final Statistics statistics = sessionFactory.getStatistics();
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 2 );
+			// interpreting the stored queries is not a cache miss of the application
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+			assertThat( statistics.getQueries() ).isEmpty();
+			sessionFactory.inSession( (session) -> {
+				session.createSelectionQuery( QUERY, Integer.class );
+				session.createSelectionQuery( MULTI_QUERY, Object[].class );
+			} );
+			assertThat( statistics.getQueryStatistics( QUERY ).getPlanCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryStatistics( MULTI_QUERY ).getPlanCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testCorruptedStoreIgnored(@TempDir Path directory) throws Exception {
+		final Path file = directory.resolve( "hql.bin" );
+
+		withSessionFactory(
+				file,
+				BasicEntity.class,
+				(sessionFactory) -> sessionFactory.inSession( (session) -> session.createSelectionQuery( QUERY, Integer.class ) )
+		);
+		final byte[] stored = Files.readAllBytes( file );
+
+		// a huge number of queries
+		final ByteBuffer count = ByteBuffer.wrap( stored.clone() );
+		count.putInt( 8, Integer.MAX_VALUE );
+		assertStoreIgnored( file, count.array() );
+
+		// a huge length of the first query
+		final ByteBuffer length = ByteBuffer.wrap( stored.clone() );
+		length.putInt( 12, Integer.MAX_VALUE );
+		assertStoreIgnored( file, length.array() );
+
+		// a negative length of the first query
+		length.putInt( 12, -1 );
+		assertStoreIgnored( file, length.array() );
+
+		// a truncated file
+		assertStoreIgnored( file, Arrays.copyOf( stored, stored.length - 1 ) );
+	}
+
+	private static void assertStoreIgnored(Path file, byte[] content) throws Exception {
+		Files.write( file, content );
+		withSessionFactory(
+				file,
+				BasicEntity.class,
+				(sessionFactory) -> assertThat(
+						sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations()
+				).isEqualTo( 0 )
+		);
+	}
+
+	@Test
+	public void testStoreIgnoredForDifferentMapping(@TempDir Path directory) throws Exception {
+		final Path file = directory.resolve( "hql.bin" );
+
+		withSessionFactory(
+				file,
+				BasicEntity.class,
+				(sessionFactory) -> sessionFactory.inSession( (session) -> session.createSelectionQuery( QUERY, Integer.class ) )
+		);
+		final long size = Files.size( file );
+
+		withSessionFactory(
+				file,
+				EntityOfBasics.class,
+				(sessionFactory) -> assertThat(
+						sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations()
+				).isEqualTo( 0 )
+		);
+		assertThat( Files.size( file ) ).isLessThan( size );
+	}
+
+	private static void withSessionFactory(
+			Path file,
+			Class<?> entityClass,
+			Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_HQL_STORE, file.toString() )
+				.build();
+		try {
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( ssr )
+					.addAnnotatedClass( entityClass )
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				action.accept( sessionFactory );
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+}
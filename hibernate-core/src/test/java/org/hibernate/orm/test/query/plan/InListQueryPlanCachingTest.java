@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the caching of query plans for queries with multi-valued parameters
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true" )
+} )
+@SessionFactory
+public class InListQueryPlanCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new BasicEntity( i, "entity " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearPlanCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testPaddedInListsSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat( findByIds( session, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+			assertThat( findByIds( session, List.of( 2, 4, 5, 6 ) ) ).containsExactly( 2, 4, 5, 6 );
+			assertThat( findByIds( session, List.of( 6, 3, 1 ) ) ).containsExactly( 1, 3, 6 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+
+			assertThat( findByIds( session, List.of( 1, 2, 3, 4, 5 ) ) ).containsExactly( 1, 2, 3, 4, 5 );
+			assertThat( findByIds( session, List.of( 5, 6 ) ) ).containsExactly( 5, 6 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testSingleAndMultiValuedBindingsDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat(
+					session.createSelectionQuery( "select id from BasicEntity where id in :ids order by id", Integer.class )
+							.setParameter( "ids", 4 )
+							.getResultList()
+			).containsExactly( 4 );
+			assertThat( findByIds( session, List.of( 4 ) ) ).containsExactly( 4 );
+			assertThat( findByIds( session, List.of( 3, 4 ) ) ).containsExactly( 3, 4 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	private static List<Integer> findByIds(SessionImplementor session, List<Integer> ids) {
+		return session.createSelectionQuery( "select id from BasicEntity where id in :ids order by id", Integer.class )
+				.setParameterList( "ids", ids )
+				.getResultList();
+	}
+}
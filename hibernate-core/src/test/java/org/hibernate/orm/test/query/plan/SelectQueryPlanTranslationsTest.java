@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.H2SqlAstTranslator;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperation;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a select query plan keeps the translations needed by the
+ * executions alternating between different bindings, up to a limit
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry(
+		settings = {
+				@Setting(
+						name = AvailableSettings.DIALECT,
+						value = "org.hibernate.orm.test.query.plan.SelectQueryPlanTranslationsTest$InliningH2Dialect"
+				),
+				@Setting(
+						name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+						value = "org.hibernate.orm.test.query.plan.SelectQueryPlanTranslationsTest$CountingSqmTranslatorFactory"
+				),
+				@Setting( name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = BasicEntity.class )
+@SessionFactory
+public class SelectQueryPlanTranslationsTest {
+	/**
+	 * The number of translations kept by a plan
+	 */
+	private static final int MAX_INTERPRETATIONS = 8;
+
+	@Test
+	public void testTranslationsAreReused(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final int translations = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+			for ( int i = 0; i < 3; i++ ) {
+				// IN lists of 3 and 4 values are both padded to 4 parameters, and so share the plan
+				selectIn( session, List.of( 1, 2, 3 ), null );
+				selectIn( session, List.of( 1, 2, 3, 4 ), 5 );
+				selectIn( session, List.of( 1, 2, 3 ), 5 );
+				selectIn( session, List.of( 1, 2, 3, 4 ), null );
+			}
+			// one translation without and one with a limit
+			assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - translations ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testNumberOfTranslationsIsLimited(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final int translations = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+			// each value is inlined, and so needs a translation of its own
+			for ( int min = 0; min < MAX_INTERPRETATIONS + 2; min++ ) {
+				selectFrom( session, min );
+			}
+			assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - translations )
+					.isEqualTo( MAX_INTERPRETATIONS + 2 );
+
+			// the most recent translations are kept
+			selectFrom( session, MAX_INTERPRETATIONS + 1 );
+			selectFrom( session, 2 );
+			assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - translations )
+					.isEqualTo( MAX_INTERPRETATIONS + 2 );
+
+			// the oldest were dropped
+			selectFrom( session, 0 );
+			assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - translations )
+					.isEqualTo( MAX_INTERPRETATIONS + 3 );
+		} );
+	}
+
+	private static void selectIn(SessionImplementor session, List<Integer> ids, Integer maxResults) {
+		final SelectionQuery<Integer> query = session.createSelectionQuery(
+				"select id from BasicEntity where id in :ids order by id",
+				Integer.class
+		).setParameter( "ids", ids );
+		if ( maxResults != null ) {
+			query.setMaxResults( maxResults );
+		}
+		query.getResultList();
+	}
+
+	private static void selectFrom(SessionImplementor session, int min) {
+		session.createSelectionQuery( "select id from BasicEntity where id >= :min", Integer.class )
+				.setParameter( "min", min )
+				.getResultList();
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		private static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+
+	/**
+	 * Inlines the values of parameters compared to columns, like some dialects
+	 * do in certain places, so that the SQL depends on the parameter bindings
+	 */
+	public static class InliningH2Dialect extends H2Dialect {
+		public InliningH2Dialect() {
+		}
+
+		public InliningH2Dialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		@Override
+		public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
+			return new StandardSqlAstTranslatorFactory() {
+				@Override
+				protected <T extends JdbcOperation> SqlAstTranslator<T> buildTranslator(
+						SessionFactoryImplementor sessionFactory, Statement statement) {
+					return new InliningH2SqlAstTranslator<>( sessionFactory, statement );
+				}
+			};
+		}
+	}
+
+	private static class InliningH2SqlAstTranslator<T extends JdbcOperation> extends H2SqlAstTranslator<T> {
+		private InliningH2SqlAstTranslator(SessionFactoryImplementor sessionFactory, Statement statement) {
+			super( sessionFactory, statement );
+		}
+
+		@Override
+		public void visitRelationalPredicate(ComparisonPredicate comparisonPredicate) {
+			if ( getJdbcParameterBindings() == null ) {
+				super.visitRelationalPredicate( comparisonPredicate );
+			}
+			else {
+				withParameterRenderingMode(
+						SqlAstNodeRenderingMode.INLINE_ALL_PARAMETERS,
+						() -> super.visitRelationalPredicate( comparisonPredicate )
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.readonly;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for sessions opened as read-only
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@SessionFactory
+public class ReadOnlySessionBuilderTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new BasicEntity( 1, "original" ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		try (Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession()) {
+			assertTrue( session.isDefaultReadOnly() );
+			assertEquals( FlushMode.MANUAL, session.getHibernateFlushMode() );
+
+			session.beginTransaction();
+			final BasicEntity entity = session.get( BasicEntity.class, 1 );
+			assertTrue( session.isReadOnly( entity ) );
+			assertSame(
+					entity,
+					session.createSelectionQuery( "from BasicEntity", BasicEntity.class ).getSingleResult()
+			);
+			entity.setData( "changed" );
+			session.getTransaction().commit();
+		}
+
+		scope.inTransaction(
+				session -> assertEquals( "original", session.get( BasicEntity.class, 1 ).getData() )
+		);
+	}
+
+	@Test
+	public void testExplicitFlushMode(SessionFactoryScope scope) {
+		try (Session session = scope.getSessionFactory().withOptions()
+				.readOnly( true )
+				.flushMode( FlushMode.AUTO )
+				.openSession()) {
+			assertTrue( session.isDefaultReadOnly() );
+			assertEquals( FlushMode.AUTO, session.getHibernateFlushMode() );
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.ast;
+
+import org.hibernate.sql.ast.internal.SqlBufferPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the per-thread pool of SQL rendering buffers
+ */
+public class SqlBufferPoolTests {
+
+	@Test
+	public void testReleasedBufferIsReusedEmpty() {
+		final StringBuilder buffer = SqlBufferPool.acquire();
+		buffer.append( "select 1" );
+		SqlBufferPool.release( buffer );
+
+		final StringBuilder reused = SqlBufferPool.acquire();
+		assertThat( reused ).isSameAs( buffer );
+		assertThat( reused.length() ).isEqualTo( 0 );
+		SqlBufferPool.release( reused );
+	}
+
+	@Test
+	public void testNestedAcquisitionsGetDistinctBuffers() {
+		final StringBuilder outer = SqlBufferPool.acquire();
+		final StringBuilder inner = SqlBufferPool.acquire();
+		assertThat( inner ).isNotSameAs( outer );
+		SqlBufferPool.release( inner );
+		SqlBufferPool.release( outer );
+	}
+
+	@Test
+	public void testLargeBufferIsNotRetained() {
+		final StringBuilder buffer = SqlBufferPool.acquire();
+		buffer.ensureCapacity( 1024 * 1024 );
+		SqlBufferPool.release( buffer );
+
+		final StringBuilder next = SqlBufferPool.acquire();
+		assertThat( next ).isNotSameAs( buffer );
+		SqlBufferPool.release( next );
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the state of entities is read correctly, whether it is read directly
+ * from the JDBC values or through the assemblers of the attributes
+ */
+@DomainModel( annotatedClasses = { EntityStatePassThroughTests.Shape.class, EntityStatePassThroughTests.Circle.class } )
+@SessionFactory
+public class EntityStatePassThroughTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Shape( 1, "square", "red" ) );
+			session.persist( new Circle( 2, "circle", "blue", 5 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Shape" ).executeUpdate() );
+	}
+
+	@Test
+	public void testState(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Shape> shapes = session.createSelectionQuery( "from Shape order by id", Shape.class )
+					.getResultList();
+			assertThat( shapes ).hasSize( 2 );
+
+			assertThat( shapes.get( 0 ).name ).isEqualTo( "square" );
+			assertThat( shapes.get( 0 ).color ).isEqualTo( "red" );
+
+			assertThat( shapes.get( 1 ) ).isInstanceOf( Circle.class );
+			final Circle circle = (Circle) shapes.get( 1 );
+			assertThat( circle.name ).isEqualTo( "circle" );
+			assertThat( circle.color ).isEqualTo( "blue" );
+			assertThat( circle.radius ).isEqualTo( 5 );
+		} );
+	}
+
+	@Entity( name = "Shape" )
+	public static class Shape {
+		@Id
+		private Integer id;
+		private String name;
+		@Convert( converter = UpperCaseConverter.class )
+		private String color;
+
+		public Shape() {
+		}
+
+		public Shape(Integer id, String name, String color) {
+			this.id = id;
+			this.name = name;
+			this.color = color;
+		}
+	}
+
+	@Entity( name = "Circle" )
+	public static class Circle extends Shape {
+		private int radius;
+
+		public Circle() {
+		}
+
+		public Circle(Integer id, String name, String color, int radius) {
+			super( id, name, color );
+			this.radius = radius;
+		}
+	}
+
+	public static class UpperCaseConverter implements AttributeConverter<String, String> {
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute == null ? null : attribute.toUpperCase();
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : dbData.toLowerCase();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.domain.gambit.EntityWithManyToOneSelfReference;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that repeated executions of a query, which may reuse the initializers
+ * of a previous execution, do not see any state of that execution
+ */
+@DomainModel( annotatedClasses = EntityWithManyToOneSelfReference.class )
+@SessionFactory
+public class InitializerGraphReuseTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final EntityWithManyToOneSelfReference first = new EntityWithManyToOneSelfReference( 1, "first", 1 );
+			session.persist( first );
+			session.persist( new EntityWithManyToOneSelfReference( 2, "second", 2, first ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "update EntityWithManyToOneSelfReference set other = null" ).executeUpdate();
+			session.createMutationQuery( "delete EntityWithManyToOneSelfReference" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRepeatedJoinFetch(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( (session) -> {
+				final List<EntityWithManyToOneSelfReference> results = session.createSelectionQuery(
+						"from EntityWithManyToOneSelfReference e left join fetch e.other order by e.id",
+						EntityWithManyToOneSelfReference.class
+				).getResultList();
+				assertThat( results ).hasSize( 2 );
+				assertThat( results.get( 0 ).getOther() ).isNull();
+				assertThat( results.get( 1 ).getOther() ).isSameAs( results.get( 0 ) );
+				assertThat( session.contains( results.get( 0 ) ) ).isTrue();
+				assertThat( session.contains( results.get( 1 ) ) ).isTrue();
+			} );
+		}
+	}
+
+	@Test
+	public void testRepeatedSelectFetch(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( (session) -> {
+				final EntityWithManyToOneSelfReference second = session.createSelectionQuery(
+						"from EntityWithManyToOneSelfReference e where e.id = :id",
+						EntityWithManyToOneSelfReference.class
+				).setParameter( "id", 2 ).getSingleResult();
+				assertThat( second.getName() ).isEqualTo( "second" );
+				assertThat( Hibernate.isInitialized( second.getOther() ) ).isTrue();
+				assertThat( second.getOther().getName() ).isEqualTo( "first" );
+				assertThat( session.contains( second.getOther() ) ).isTrue();
+			} );
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for queries returning only scalar values or dynamic instantiations of them,
+ * which are read without involving the persistence context
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@SessionFactory
+public class ProjectionOnlyResultsTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new BasicEntity( i, "entity " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Summary> results = session.createSelectionQuery(
+					"select new " + Summary.class.getName() + "(id, data) from BasicEntity order by id",
+					Summary.class
+			).getResultList();
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 0 ).id ).isEqualTo( 1 );
+			assertThat( results.get( 2 ).data ).isEqualTo( "entity 3" );
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testTuple(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Tuple> results = session.createSelectionQuery(
+					"select id as id, data as data from BasicEntity order by id",
+					Tuple.class
+			).getResultList();
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 1 ).get( "id" ) ).isEqualTo( 2 );
+			assertThat( results.get( 1 ).get( "data" ) ).isEqualTo( "entity 2" );
+		} );
+	}
+
+	@Test
+	public void testDistinctScalars(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Integer> results = session.createSelectionQuery(
+					"select distinct length(data) from BasicEntity",
+					Integer.class
+			).getResultList();
+			assertThat( results ).containsExactly( 8 );
+		} );
+	}
+
+	@Test
+	public void testProjectionWhileLoading(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final BasicEntity entity = session.get( BasicEntity.class, 1 );
+			final List<String> results = session.createSelectionQuery(
+					"select data from BasicEntity order by id",
+					String.class
+			).getResultList();
+			assertThat( results ).containsExactly( "entity 1", "entity 2", "entity 3" );
+
+			// the persistence context is still usable for entity loading
+			final List<BasicEntity> entities = session.createSelectionQuery(
+					"from BasicEntity order by id",
+					BasicEntity.class
+			).getResultList();
+			assertThat( entities ).hasSize( 3 );
+			assertThat( entities.get( 0 ) ).isSameAs( entity );
+		} );
+	}
+
+	public static class Summary {
+		private final Integer id;
+		private final String data;
+
+		public Summary(Integer id, String data) {
+			this.id = id;
+			this.data = data;
+		}
+	}
+}